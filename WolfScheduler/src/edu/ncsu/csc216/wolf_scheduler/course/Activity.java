@@ -17,6 +17,22 @@ public abstract class Activity implements Conflict {
 	private int startTime;
 	/** Course's ending time. */
 	private int endTime;
+	/** Course's meeting days as a bit mask, 0 for arranged */
+	private int meetingDaysMask;
+	/** Course's starting time in minutes after midnight */
+	private int startMinute;
+	/** Course's ending time in minutes after midnight */
+	private int endMinute;
+	/** True once the activity has been frozen and can no longer be changed */
+	private boolean frozen;
+	/** Number of minutes in a day */
+	public static final int MINUTES_PER_DAY = 24 * 60;
+	/** Meeting day letters, the bit for each day is 1 shifted by its index */
+	private static final String DAY_LETTERS = "UMTWHFS";
+	/** Number of days in a week, and of bits in a meeting days mask */
+	public static final int DAYS_PER_WEEK = DAY_LETTERS.length();
+	/** Mask of the weekend days, Sunday and Saturday */
+	public static final int WEEKEND_MASK = 1 << DAY_LETTERS.indexOf('U') | 1 << DAY_LETTERS.indexOf('S');
 	/** represents maximum number of hours */
 	private static final int UPPER_HOUR = 23;
 	/** represents maximum number of minutes */
@@ -35,6 +51,27 @@ public abstract class Activity implements Conflict {
         setTitle(title);
         setMeetingDaysAndTime(meetingDays, startTime, endTime);
     }
+
+	/**
+	 * Constructs an Activity from fields that are already known to be valid, such as
+	 * those of a checked CourseSnapshot, without checking them again.
+	 *
+	 * @param title The title of the activity.
+	 * @param meetingDays The days of the week when the activity occurs
+	 * @param meetingDaysMask The meeting days as a bit mask, 0 for arranged
+	 * @param startTime The start time of the activity
+	 * @param endTime The end time of the activity
+	 */
+	Activity(String title, String meetingDays, int meetingDaysMask, int startTime, int endTime) {
+		super();
+		this.title = title;
+		this.meetingDays = meetingDays;
+		this.meetingDaysMask = meetingDaysMask;
+		this.startTime = startTime;
+		this.endTime = endTime;
+		this.startMinute = toMinutes(startTime);
+		this.endMinute = toMinutes(endTime);
+	}
 	
 	/**
 	 * checks if activity is a duplicate
@@ -43,9 +80,54 @@ public abstract class Activity implements Conflict {
 	 */
 	public abstract boolean isDuplicate(Activity activity);
 
+	/**
+	 * Returns a key that two activities share exactly when one is a duplicate of the
+	 * other, so a schedule can find duplicates in a hash set instead of calling
+	 * isDuplicate() on every activity.
+	 * @return the duplicate key of the activity
+	 */
+	public abstract String getDuplicateKey();
+
+	/**
+	 * Appends the comma separated value record for this activity, the same text that
+	 * toString() returns, to the given builder.  Exporters can reuse one builder for
+	 * every record instead of building a new String for each.
+	 * @param record builder to append the record to
+	 */
+	public abstract void appendRecord(StringBuilder record);
+
+	/**
+	 * Freezes the activity so that none of its fields can be changed again.  An
+	 * activity is frozen when something else keys on its fields, as a course catalog
+	 * does by name and section.
+	 */
+	public void freeze() {
+		frozen = true;
+	}
+
+	/**
+	 * Returns whether the activity has been frozen.
+	 *
+	 * @return true if the activity can no longer be changed
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Checks that the activity can still be changed.
+	 *
+	 * @throws IllegalStateException if the activity is frozen
+	 */
+	protected void checkNotFrozen() {
+		if (frozen) {
+			throw new IllegalStateException("Activity cannot be changed.");
+		}
+	}
+
 	/**
 	 * Returns the course title
-	 * 
+	 *
 	 * @return the title
 	 */
 	public String getTitle() {
@@ -57,8 +139,10 @@ public abstract class Activity implements Conflict {
 	 * 
 	 * @param title the title to set
 	 * @throws IllegalArgumentException if the title is null or empty
+	 * @throws IllegalStateException if the activity is frozen
 	 */
 	public void setTitle(String title) {
+		checkNotFrozen();
 		// throws exception if title string is null or empty
 		if (title == null || "".equals(title)) {
 			throw new IllegalArgumentException("Invalid title.");
@@ -84,20 +168,29 @@ public abstract class Activity implements Conflict {
 	 * @throws IllegalArgumentException if meeting days is empty/null, or if user
 	 * gives an invalid meeting day or time (if A then start/end time should be 0, 
 	 * time should be in military,no duplicate meeting days, start time prior to 
-	 * end time, and days must be either A, M, T, W, H, F)
+	 * end time, and days must be either A, U, M, T, W, H, F, S)
+	 * @throws IllegalStateException if the activity is frozen
 	 */
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
+		checkNotFrozen();
 	    // throws exception if meetingDays is empty or null
 	    if (meetingDays == null || "".equals(meetingDays)) {
 	        throw new IllegalArgumentException("Invalid meeting days and times.");
 	    }
 	    
+	    // arranged activities meet on no day
+	    int mask = 0;
 	    // If meetingDays is "Arranged," ensure startTime and endTime are both 0
 	    if ("A".equals(meetingDays)) {
 	        if (startTime != 0 || endTime != 0) {
 	            throw new IllegalArgumentException("Invalid meeting days and times.");
 	        }
 	    } else {
+	        // throws exception if a day is invalid or repeated
+	        mask = toDaysMask(meetingDays);
+	        if (mask <= 0) {
+	            throw new IllegalArgumentException("Invalid meeting days and times.");
+	        }
 	        // Meeting days are not "Arranged," validate them
 	        // breaks military time into hours/minutes
 	        int startH = startTime / 100;
@@ -119,8 +212,47 @@ public abstract class Activity implements Conflict {
 	    }
 	    // sets fields
 	    this.meetingDays = meetingDays;
+	    this.meetingDaysMask = mask;
 	    this.startTime = startTime;
 	    this.endTime = endTime;
+	    this.startMinute = toMinutes(startTime);
+	    this.endMinute = toMinutes(endTime);
+	}
+
+	/**
+	 * Returns the meeting days as a bit mask with one bit for each of Sunday through
+	 * Saturday, in the order U, M, T, W, H, F, S.  An arranged activity meets on no
+	 * day and has a mask of 0.  Two activities share a day exactly when their masks
+	 * have a bit in common.
+	 * 
+	 * @return the meeting days mask
+	 */
+	public int getMeetingDaysMask() {
+		return meetingDaysMask;
+	}
+
+	/**
+	 * Converts a string of meeting day letters to a bit mask like the one returned by
+	 * getMeetingDaysMask().  The letters may be in any order.
+	 * 
+	 * @param meetingDays meeting day letters from U, M, T, W, H, F, S
+	 * @return the meeting days mask, or -1 if meetingDays is null, empty, or has a
+	 * letter that is not a day or a day more than once
+	 */
+	public static int toDaysMask(String meetingDays) {
+		if (meetingDays == null || meetingDays.isEmpty()) {
+			return -1;
+		}
+		int mask = 0;
+		for (int i = 0; i < meetingDays.length(); i++) {
+			int day = DAY_LETTERS.indexOf(meetingDays.charAt(i));
+			// an unknown letter or a day already in the mask
+			if (day < 0 || (mask & 1 << day) != 0) {
+				return -1;
+			}
+			mask |= 1 << day;
+		}
+		return mask;
 	}
 
 	/**
@@ -181,32 +313,107 @@ public abstract class Activity implements Conflict {
 	 */
 	@Override
 	public void checkConflict(Activity possibleConflictingActivity) throws ConflictException {
-		// Check if either activity has "Arranged" meeting days, no need to check for conflict if so
-	    if ("A".equals(meetingDays) || "A".equals(possibleConflictingActivity.meetingDays)) {
-	        return;
-	    }
-	    // Check if the two activities share a similar meet day
-		for (int i = 0; i < meetingDays.length(); i++) {
-			char tempDay = meetingDays.charAt(i);
-			// if they share a similar meeting day it confirms they don't have overlapping times
-			if (possibleConflictingActivity.meetingDays.indexOf(tempDay) != -1) {
-				if (this.startTime == possibleConflictingActivity.startTime) {
-	                // Both activities start at the same time, so throw a ConflictException
-	                throw new ConflictException("Schedule conflict.");
-	            }
-				if (this.startTime <= possibleConflictingActivity.startTime &&
-		                this.endTime >= possibleConflictingActivity.startTime) {
-		                // There is a time overlap, so throw a ConflictException
-		                throw new ConflictException("Schedule conflict.");
-		        }
-				if (this.startTime >= possibleConflictingActivity.startTime &&
-		                this.startTime <= possibleConflictingActivity.endTime) {
-		                // There is a time overlap, so throw a ConflictException
-		                throw new ConflictException("Schedule conflict.");
-		        }
-				
-			}
+		if (conflictsWith(possibleConflictingActivity)) {
+			throw new ConflictException("Schedule conflict.");
+		}
+	}
+
+	/**
+	 * Checks for a schedule conflict with a given activity.  Only compares fields, so
+	 * it allocates nothing and can be called for every pair of many activities.
+	 * 
+	 * @param possibleConflictingActivity The activity to check for a schedule conflict with.
+	 * @return true if the activities conflict, false otherwise
+	 */
+	@Override
+	public boolean conflictsWith(Activity possibleConflictingActivity) {
+		// Arranged activities have an empty mask, so they never share a day.  On a shared
+		// day the activities conflict if their times overlap, including touching ends.
+		return (meetingDaysMask & possibleConflictingActivity.meetingDaysMask) != 0
+				&& startMinute <= possibleConflictingActivity.endMinute && possibleConflictingActivity.startMinute <= endMinute;
+	}
+
+	/**
+	 * Returns how many minutes a week this activity and another activity both meet.
+	 * Activities whose times only touch, such as one ending at 1:30 and the other
+	 * starting at 1:30, overlap for 0 minutes even though they conflict.
+	 * 
+	 * @param other the activity to compare with
+	 * @return minutes a week that both activities meet
+	 */
+	public int overlapMinutes(Activity other) {
+		int overlap = Math.min(endMinute, other.endMinute) - Math.max(startMinute, other.startMinute);
+		if (overlap <= 0) {
+			return 0;
+		}
+		// the same overlap on every shared day
+		return Integer.bitCount(meetingDaysMask & other.meetingDaysMask) * overlap;
+	}
+
+	/**
+	 * Checks whether this activity meets at the given minute of the week.  An
+	 * activity meets from its start minute through its end minute on each meeting day.
+	 * 
+	 * @param minuteOfWeek minute of the week as returned by minuteOfWeek()
+	 * @return true if the activity meets at that minute
+	 */
+	public boolean meetsAt(int minuteOfWeek) {
+		if (minuteOfWeek < 0) {
+			return false;
 		}
+		int day = minuteOfWeek / MINUTES_PER_DAY;
+		int minute = minuteOfWeek % MINUTES_PER_DAY;
+		return day < DAYS_PER_WEEK && (meetingDaysMask & 1 << day) != 0 && startMinute <= minute && minute <= endMinute;
+	}
+
+	/**
+	 * Returns the number of minutes a week this activity meets.
+	 * 
+	 * @return minutes a week, 0 for an arranged activity
+	 */
+	public int getWeeklyMinutes() {
+		return Integer.bitCount(meetingDaysMask) * (endMinute - startMinute);
+	}
+
+	/**
+	 * Returns the start time in minutes after midnight.
+	 * 
+	 * @return the start minute of the day
+	 */
+	public int getStartMinute() {
+		return startMinute;
+	}
+
+	/**
+	 * Returns the end time in minutes after midnight.
+	 * 
+	 * @return the end minute of the day
+	 */
+	public int getEndMinute() {
+		return endMinute;
+	}
+
+	/**
+	 * Converts a military time, such as 1330, to minutes after midnight.
+	 * 
+	 * @param time the military time to convert
+	 * @return minutes after midnight
+	 */
+	public static int toMinutes(int time) {
+		return time / 100 * 60 + time % 100;
+	}
+
+	/**
+	 * Returns the minute of the week for a day and military time.  Days are numbered
+	 * from 0 for Sunday to 6 for Saturday, the bit order of getMeetingDaysMask(), and
+	 * the minute of the week is day * MINUTES_PER_DAY plus minutes after midnight.
+	 * 
+	 * @param day day of the week from 0 for Sunday to 6 for Saturday
+	 * @param time military time on that day
+	 * @return the minute of the week
+	 */
+	public static int minuteOfWeek(int day, int time) {
+		return day * MINUTES_PER_DAY + toMinutes(time);
 	}
 
 	/**
@@ -12,5 +12,14 @@ public interface Conflict {
      * @throws ConflictException if a scheduling conflict occurs
      */
 	void checkConflict(Activity possibleConflictingActivity) throws ConflictException;
+
+	/**
+     * Checks for conflicts with a given activity without throwing an exception, for
+     * callers that expect many of the activities they check to conflict.
+     *
+     * @param possibleConflictingActivity the activity to check for conflicts with
+     * @return true if a scheduling conflict occurs, false otherwise
+     */
+	boolean conflictsWith(Activity possibleConflictingActivity);
 	
 }
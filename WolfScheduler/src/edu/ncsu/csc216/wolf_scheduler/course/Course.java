@@ -70,6 +70,29 @@ public class Course extends Activity {
 	public Course(String name, String title, String section, int credits, String instructorId, String meetingDays) {
 		this(name, title, section, credits, instructorId, meetingDays, 0, 0);
 	}
+
+	/**
+	 * Constructs a Course from fields that are already known to be valid, such as
+	 * those of a checked CourseSnapshot, without checking them again.
+	 * 
+	 * @param name         name of Course
+	 * @param title        title of Course
+	 * @param section      section of Course
+	 * @param credits      credit hours for Course
+	 * @param instructorId instructor's unity id
+	 * @param meetingDays  meeting days for Course as series of chars
+	 * @param meetingDaysMask meeting days as a bit mask, 0 for arranged
+	 * @param startTime    start time for the course
+	 * @param endTime      end time for the course
+	 */
+	Course(String name, String title, String section, int credits, String instructorId, String meetingDays,
+			int meetingDaysMask, int startTime, int endTime) {
+		super(title, meetingDays, meetingDaysMask, startTime, endTime);
+		this.name = name;
+		this.section = section;
+		this.credits = credits;
+		this.instructorId = instructorId;
+	}
 	
 	/**
      * Checks if another Course is a duplicate of this Course based on their names.
@@ -88,6 +111,18 @@ public class Course extends Activity {
         return false;
     }
 
+    /**
+     * Returns the duplicate key of the Course, which is its name, since Courses
+     * with the same name are duplicates whatever their sections.  Event keys start
+     * with a different letter, so a Course and an Event never share a key.
+     *
+     * @return the duplicate key
+     */
+    @Override
+    public String getDuplicateKey() {
+        return "C," + getName();
+    }
+
 	/**
 	 * Sets the meeting days and time for a course.
 	 * 
@@ -98,49 +133,22 @@ public class Course extends Activity {
 	 * gives an invalid meeting day or time (if A then start/end time should be 0,
 	 * time should be in military, no duplicate meeting days, start time prior to 
 	 * end time, and days must be either A, M, T, W, H, F)
+	 * @throws IllegalStateException if the course is frozen
 	 */
 	@Override 
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
+		checkNotFrozen();
 	    // throws exception if user selects Arranged and the start/end times are not 0
  		if ("A".equals(meetingDays)) {
  			if (startTime != 0 || endTime != 0) {
  				throw new IllegalArgumentException("Invalid meeting days and times.");
  			}
  		} else {
- 			int monday = 0;
- 			int tuesday = 0;
- 			int wednesday = 0;
- 			int thursday = 0;
- 			int friday = 0;
- 			// adds meeting days to their corresponding days
- 			for (int i = 0; i < meetingDays.length(); i++) {
- 				char temp = meetingDays.charAt(i);
- 				switch (temp) {
- 				case 'M':
- 					monday++;
- 					break;
- 				case 'T':
- 					tuesday++;
- 					break;
- 				case 'W':
- 					wednesday++;
- 					break;
- 				case 'H':
- 					thursday++;
- 					break;
- 				case 'F':
- 					friday++;
- 					break;
- 				// throws exception if invalid meeting day given
- 				default:
- 					throw new IllegalArgumentException("Invalid meeting days and times.");
- 				}
- 			}
- 			// throws exception if duplicate days given
- 			if (monday > 1 || tuesday > 1 || wednesday > 1 || thursday > 1 || friday > 1) {
+ 			// throws exception if a day is invalid, repeated, or on the weekend
+ 			int mask = toDaysMask(meetingDays);
+ 			if (mask <= 0 || (mask & WEEKEND_MASK) != 0) {
  				throw new IllegalArgumentException("Invalid meeting days and times.");
  			}
- 	
  		}
  		super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
 	}
@@ -224,8 +232,10 @@ public class Course extends Activity {
 	 * @param section the section to set
 	 * @throws IllegalArgumentException if section is null, not 3 chars, or if it
 	 *                                  contains a nondigit character
+	 * @throws IllegalStateException if the course is frozen
 	 */
 	public void setSection(String section) {
+		checkNotFrozen();
 		// throws an exception if section string is empty or not 3 chars
 		if (section == null || section.length() != SECTION_LENGTH) {
 			throw new IllegalArgumentException("Invalid section.");
@@ -254,8 +264,10 @@ public class Course extends Activity {
 	 * 
 	 * @param credits the credits to set
 	 * @throws IllegalArgumentException if credits are less than 1 or greater than 5
+	 * @throws IllegalStateException if the course is frozen
 	 */
 	public void setCredits(int credits) {
+		checkNotFrozen();
 		// throws an excepton if credits are less than 1 or greater than 5
 		if (credits < MIN_CREDITS || credits > MAX_CREDITS) {
 			throw new IllegalArgumentException("Invalid credits.");
@@ -277,8 +289,10 @@ public class Course extends Activity {
 	 * 
 	 * @param instructorId the instructorId to set
 	 * @throws IllegalArgumentException if instructorID String is null or empty
+	 * @throws IllegalStateException if the course is frozen
 	 */
 	public void setInstructorId(String instructorId) {
+		checkNotFrozen();
 		if (instructorId == null || instructorId.length() == 0) {
 			throw new IllegalArgumentException("Invalid instructor id.");
 		}
@@ -343,11 +357,24 @@ public class Course extends Activity {
 	 */
 	@Override
 	public String toString() {
-		if ("A".equals(getMeetingDays())) {
-			return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + "," + getMeetingDays();
+		StringBuilder record = new StringBuilder();
+		appendRecord(record);
+		return record.toString();
+	}
+
+	/**
+	 * Appends the comma separated values of all Course fields to the given builder.
+	 * An arranged course has no start or end time.
+	 *
+	 * @param record builder to append the record to
+	 */
+	@Override
+	public void appendRecord(StringBuilder record) {
+		record.append(name).append(',').append(getTitle()).append(',').append(section).append(',')
+				.append(credits).append(',').append(instructorId).append(',').append(getMeetingDays());
+		if (!"A".equals(getMeetingDays())) {
+			record.append(',').append(getStartTime()).append(',').append(getEndTime());
 		}
-		return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + "," + getMeetingDays() + ","
-				+ getStartTime() + "," + getEndTime();
 	}
 
 	/**
@@ -0,0 +1,200 @@
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Encodes Courses into the bytes of a catalog snapshot and decodes them again.
+ * <p>
+ * A snapshot starts with a magic number, the format version, and the length and
+ * modification time of the catalog file it was made from.  Names, titles, sections,
+ * instructor ids, and meeting days are stored once each in a string table, and every
+ * Course is five indexes into the table, its meeting days mask, and one int packing
+ * its credits and times.  The snapshot ends with a CRC32 of everything before it.
+ * <p>
+ * Only Courses, which are valid once constructed, are ever encoded, so a snapshot
+ * whose checksum matches holds valid fields.  decode() therefore rebuilds each Course
+ * through a package-private constructor that sets the fields without checking them
+ * again, which is what makes a snapshot faster to load than the catalog file.
+ *
+ * @author Brandon Wroblewski
+ */
+public final class CourseSnapshot {
+
+	/** First four bytes of every snapshot, "WSCS" */
+	private static final int MAGIC = 0x57534353;
+	/** Version of the snapshot format, 2 added the meeting days mask */
+	private static final int VERSION = 2;
+	/** Bytes in the CRC32 at the end of a snapshot */
+	private static final int CHECKSUM_SIZE = Long.BYTES;
+	/** Bits used by each time in a packed Course, enough for 2359 */
+	private static final int TIME_BITS = 12;
+	/** Mask selecting one time from a packed Course */
+	private static final int TIME_MASK = (1 << TIME_BITS) - 1;
+	/** Ints of each Course record, five string indexes, the mask, and the packed int */
+	private static final int COURSE_INTS = 7;
+	/** Bytes of each Course record */
+	private static final int COURSE_SIZE = COURSE_INTS * Integer.BYTES;
+
+	/**
+	 * CourseSnapshot only has static methods.
+	 */
+	private CourseSnapshot() {
+		// not constructed
+	}
+
+	/**
+	 * Encodes Courses read from a catalog file as a snapshot.
+	 * @param courses the Courses read from the catalog file
+	 * @param sourceSize length of the catalog file when the Courses were read
+	 * @param sourceModified modification time of the catalog file in milliseconds
+	 * @return the bytes of the snapshot, ending with their checksum
+	 * @throws IOException if a field is too long to store in a snapshot
+	 */
+	public static byte[] encode(ArrayList<Course> courses, long sourceSize, long sourceModified) throws IOException {
+		// build the string table first, giving each distinct string the next index
+		HashMap<String, Integer> indexes = new HashMap<String, Integer>();
+		ArrayList<String> strings = new ArrayList<String>();
+		int[] records = new int[courses.size() * COURSE_INTS];
+		int r = 0;
+		for (Course c : courses) {
+			records[r++] = index(indexes, strings, c.getName());
+			records[r++] = index(indexes, strings, c.getTitle());
+			records[r++] = index(indexes, strings, c.getSection());
+			records[r++] = index(indexes, strings, c.getInstructorId());
+			records[r++] = index(indexes, strings, c.getMeetingDays());
+			records[r++] = c.getMeetingDaysMask();
+			records[r++] = c.getCredits() << (2 * TIME_BITS) | c.getStartTime() << TIME_BITS | c.getEndTime();
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(Integer.BYTES * records.length + Short.BYTES * strings.size());
+		CRC32 crc = new CRC32();
+		try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(bytes, crc))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(sourceSize);
+			out.writeLong(sourceModified);
+			out.writeInt(strings.size());
+			for (String s : strings) {
+				out.writeUTF(s);
+			}
+			out.writeInt(courses.size());
+			for (int record : records) {
+				out.writeInt(record);
+			}
+			// the checksum covers everything written before it
+			out.writeLong(crc.getValue());
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes the Courses in a snapshot, checking it against the catalog file it must
+	 * have been made from.  The checksum is checked before any Course is made.
+	 * @param snapshot the bytes of the snapshot
+	 * @param sourceSize current length of the catalog file
+	 * @param sourceModified current modification time of the catalog file in milliseconds
+	 * @return the Courses in the snapshot, in catalog order
+	 * @throws IllegalArgumentException if the snapshot is stale or damaged
+	 */
+	public static ArrayList<Course> decode(byte[] snapshot, long sourceSize, long sourceModified) {
+		int length = snapshot.length - CHECKSUM_SIZE;
+		if (length < 0) {
+			throw new IllegalArgumentException("Invalid snapshot.");
+		}
+		CRC32 crc = new CRC32();
+		crc.update(snapshot, 0, length);
+		try {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot, 0, length));
+			if (crc.getValue() != new DataInputStream(new ByteArrayInputStream(snapshot, length, CHECKSUM_SIZE)).readLong()
+					|| in.readInt() != MAGIC || in.readInt() != VERSION) {
+				throw new IllegalArgumentException("Invalid snapshot.");
+			}
+			if (in.readLong() != sourceSize || in.readLong() != sourceModified) {
+				throw new IllegalArgumentException("Stale snapshot.");
+			}
+			// every string takes at least its two-byte length, so no count can claim more than the file holds
+			String[] strings = new String[count(in, Short.BYTES)];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = in.readUTF();
+			}
+			int size = count(in, COURSE_SIZE);
+			ArrayList<Course> courses = new ArrayList<Course>(size);
+			for (int i = 0; i < size; i++) {
+				String name = string(strings, in.readInt());
+				String title = string(strings, in.readInt());
+				String section = string(strings, in.readInt());
+				String instructorId = string(strings, in.readInt());
+				String meetingDays = string(strings, in.readInt());
+				int mask = in.readInt();
+				int packed = in.readInt();
+				// the fields were checked when the encoded Course was made
+				courses.add(new Course(name, title, section, packed >>> (2 * TIME_BITS), instructorId, meetingDays,
+						mask, (packed >>> TIME_BITS) & TIME_MASK, packed & TIME_MASK));
+			}
+			if (in.available() != 0) {
+				throw new IllegalArgumentException("Invalid snapshot.");
+			}
+			return courses;
+		} catch (IOException e) {
+			// a ByteArrayInputStream only fails by ending early or holding a damaged string
+			throw new IllegalArgumentException("Invalid snapshot.");
+		}
+	}
+
+	/**
+	 * Returns the index of a string in the string table, adding it if it is new.
+	 * @param indexes index of every string in the table
+	 * @param strings the string table
+	 * @param s string to find
+	 * @return index of s in the string table
+	 */
+	private static int index(HashMap<String, Integer> indexes, ArrayList<String> strings, String s) {
+		Integer index = indexes.get(s);
+		if (index == null) {
+			index = strings.size();
+			indexes.put(s, index);
+			strings.add(s);
+		}
+		return index;
+	}
+
+	/**
+	 * Reads the count of the items that follow, checking that the bytes left can hold
+	 * that many, so a damaged count fails before anything is allocated for it.
+	 * @param in the snapshot, positioned at the count
+	 * @param itemSize fewest bytes each item takes
+	 * @return the count
+	 * @throws IllegalArgumentException if the count is negative or too large for the bytes left
+	 * @throws IOException if the count cannot be read
+	 */
+	private static int count(DataInputStream in, int itemSize) throws IOException {
+		int count = in.readInt();
+		if (count < 0 || count > in.available() / itemSize) {
+			throw new IllegalArgumentException("Invalid snapshot.");
+		}
+		return count;
+	}
+
+	/**
+	 * Returns a string from the string table.
+	 * @param strings the string table
+	 * @param index index read from the snapshot
+	 * @return the string at index
+	 * @throws IllegalArgumentException if index is not in the table
+	 */
+	private static String string(String[] strings, int index) {
+		if (index < 0 || index >= strings.length) {
+			throw new IllegalArgumentException("Invalid snapshot.");
+		}
+		return strings[index];
+	}
+
+}
@@ -41,6 +41,17 @@ public class Event extends Activity {
         // returns false if other event is different
         return false;
     }
+
+    /**
+     * Returns the duplicate key of the Event, which is its title.  Course keys start
+     * with a different letter, so an Event and a Course never share a key.
+     *
+     * @return the duplicate key
+     */
+    @Override
+    public String getDuplicateKey() {
+        return "E," + getTitle();
+    }
 	
 	/**
 	 * Sets the meeting days and time for an event.
@@ -52,54 +63,18 @@ public class Event extends Activity {
 	 * gives an invalid meeting day or time (if A then start/end time should be 0,
 	 * time should be in military, no duplicate meeting days, start time prior to 
 	 * end time, and days must be either A, M, T, W, H, F)
+	 * @throws IllegalStateException if the event is frozen
 	 */ 
 	@Override 
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
+		checkNotFrozen();
 		if (meetingDays == null || "".equals(meetingDays)) {
 	        throw new IllegalArgumentException("Invalid meeting days and times.");
 	    }
-	    int monday = 0;
-		int tuesday = 0;
-		int wednesday = 0;
-		int thursday = 0;
-		int friday = 0;
-		int saturday = 0;
-		int sunday = 0;
-		// adds meeting days to their corresponding days
-		for (int i = 0; i < meetingDays.length(); i++) {
-			char temp = meetingDays.charAt(i);
-			switch (temp) {
-			case 'M':
-				monday++;
-				break;
-			case 'T':
-				tuesday++;
-				break;
-			case 'W':
-				wednesday++;
-				break;
-			case 'H':
-				thursday++;
-				break;
-			case 'F':
-				friday++;
-				break;
-			case 'S':
-				saturday++;
-				break;
-			case 'U':
-				sunday++;
-				break;
-			// throws exception if invalid meeting day given
-			default:
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-			// throws exception if duplicate days given
- 			if (monday > 1 || tuesday > 1 || wednesday > 1 || thursday > 1 || friday > 1
- 					|| sunday > 1 || saturday > 1) {
- 				throw new IllegalArgumentException("Invalid meeting days and times.");
- 			}
-		}
+	    // throws exception if a day is invalid or repeated, arranged is not a day for events
+	    if (toDaysMask(meetingDays) <= 0) {
+	        throw new IllegalArgumentException("Invalid meeting days and times.");
+	    }
 		super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
 	}
 	
@@ -108,8 +83,10 @@ public class Event extends Activity {
      * 
      * @param eventDetails optional details about the event
      * @throws IllegalArgumentException if eventDetails is 
+     * @throws IllegalStateException if the event is frozen
      */
 	public void setEventDetails(String eventDetails) {
+		checkNotFrozen();
 		if (eventDetails == null) {
 			throw new IllegalArgumentException("Invalid event details.");
 		}
@@ -158,8 +135,21 @@ public class Event extends Activity {
 	 */
 	@Override
 	public String toString() {
-	    return getTitle() + "," + getMeetingDays() + "," + getStartTime() + ","
-	            + getEndTime() + "," + getEventDetails();
+		StringBuilder record = new StringBuilder();
+		appendRecord(record);
+		return record.toString();
+	}
+
+	/**
+	 * Appends the event in the format "title,meetingDays,startTime,endTime,eventDetails"
+	 * to the given builder.
+	 * 
+	 * @param record builder to append the record to
+	 */
+	@Override
+	public void appendRecord(StringBuilder record) {
+		record.append(getTitle()).append(',').append(getMeetingDays()).append(',').append(getStartTime())
+				.append(',').append(getEndTime()).append(',').append(getEventDetails());
 	}
 
 
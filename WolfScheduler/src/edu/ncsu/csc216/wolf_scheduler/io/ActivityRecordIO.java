@@ -1,8 +1,18 @@
 package edu.ncsu.csc216.wolf_scheduler.io;
 
-import java.io.File;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
@@ -14,20 +24,59 @@ import edu.ncsu.csc216.wolf_scheduler.course.Activity;
  */
 public class ActivityRecordIO {
 
+	/** Size of the write buffer, large enough that most schedules are written in one call */
+	private static final int BUFFER_SIZE = 1 << 16;
+
     /**
-     * Writes the given list of Courses 
+     * Writes the given list of Courses.  The records are written to a temporary file
+     * next to fileName through a large buffer, reusing one builder for every record,
+     * and the temporary file is forced to disk and then replaces fileName.  Readers of
+     * fileName therefore see either the old schedule or the whole new one, never a
+     * partial export, even after a crash.  The output
+     * is the same as printing each activity's toString() on its own line.
      * @param fileName file to save to
      * @param activities list of course to save
      * @throws IOException if the file cannot be written
      */
     public static void writeActivityRecords(String fileName, ArrayList<Activity> activities) throws IOException {
-    	PrintStream fileWriter = new PrintStream(new File(fileName));
-    	
-    	for (Activity a : activities) {
-    		fileWriter.println(a.toString());
+    	Path target = Paths.get(fileName);
+    	Path temp = target.resolveSibling(target.getFileName() + "." + System.nanoTime() + ".tmp");
+    	try {
+    		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    				Writer fileWriter = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel),
+    						Charset.defaultCharset()), BUFFER_SIZE)) {
+    			String newline = System.lineSeparator();
+    			StringBuilder record = new StringBuilder();
+    			for (Activity a : activities) {
+    				record.setLength(0);
+    				a.appendRecord(record);
+    				record.append(newline);
+    				fileWriter.append(record);
+    			}
+    			// the records must reach the disk before the rename does, or a crash could leave an empty file
+    			fileWriter.flush();
+    			channel.force(true);
+    		}
+    		moveReplacing(temp, target);
+    	} finally {
+    		// only left behind if writing or moving failed
+    		Files.deleteIfExists(temp);
+    	}
+    }
+
+    /**
+     * Moves source to target, replacing target.  The move is atomic where the file
+     * system supports it.
+     * @param source file to move
+     * @param target file to replace
+     * @throws IOException if the file cannot be moved
+     */
+    static void moveReplacing(Path source, Path target) throws IOException {
+    	try {
+    		Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    	} catch (AtomicMoveNotSupportedException e) {
+    		Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
     	}
-    	
-    	fileWriter.close();
     }
 
-}
\ No newline at end of file
+}
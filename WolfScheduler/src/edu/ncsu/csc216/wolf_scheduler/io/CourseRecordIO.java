@@ -1,9 +1,20 @@
 package edu.ncsu.csc216.wolf_scheduler.io;
 
+import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.HashSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 
@@ -24,84 +35,106 @@ public class CourseRecordIO {
      * @throws FileNotFoundException if the file cannot be found or read
      */
 	public static ArrayList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
-	    Scanner fileReader = new Scanner(new FileInputStream(fileName));  //Create a file scanner to read the file
-	    ArrayList<Course> courses = new ArrayList<Course>(); //Create an empty array of Course objects
-	    while (fileReader.hasNextLine()) { //While we have more lines in the file
-	        try { //Attempt to do the following
-	            //Read the line, process it in readCourse, and get the object
-	            //If trying to construct a Course in readCourse() results in an exception, flow of control will transfer to the catch block, below
-	            Course course = readCourse(fileReader.nextLine()); 
+	    //Collect every course the stream yields, closing the file when done
+	    try (Stream<Course> courses = streamCourseRecords(fileName)) {
+	        //Return the ArrayList with all the courses we read!
+	        return courses.collect(Collectors.toCollection(ArrayList::new));
+	    }
+	}
+
+	/**
+	 * Streams the valid Courses in a file in file order, parsing each record only when the
+	 * stream asks for the next Course.  Invalid records are skipped, and only the first
+	 * record for each name and section is passed on, exactly as readCourseRecords() does.
+	 * Only the name and section of each Course are remembered, so filtering or exporting
+	 * a large catalog does not hold every Course in memory.  The stream must be closed
+	 * to close the file, e.g. with try-with-resources.
+	 * @param fileName file to read Course records from
+	 * @return a sequential stream of the valid Courses in the file
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static Stream<Course> streamCourseRecords(String fileName) throws FileNotFoundException {
+	    return streamCourseRecords(new FileInputStream(fileName));
+	}
 
-	            //Create a flag to see if the newly created Course is a duplicate of something already in the list  
-	            boolean duplicate = false;
-	            //Look at all the courses in our list
-	            for (int i = 0; i < courses.size(); i++) {
-	                //Get the course at index i
-	                Course current = courses.get(i);
-	                //Check if the name and section are the same
-	                if (course.getName().equals(current.getName()) &&
-	                        course.getSection().equals(current.getSection())) {
-	                    //It's a duplicate!
-	                    duplicate = true;
-	                    break; //We can break out of the loop, no need to continue searching
-	                }
+	/**
+	 * Streams the valid Courses read from an input stream, exactly as
+	 * streamCourseRecords(String) does for a file.  Closing the stream of Courses
+	 * closes the input stream.
+	 * @param in source of the Course records, in the default charset
+	 * @return a sequential stream of the valid Courses read
+	 */
+	public static Stream<Course> streamCourseRecords(InputStream in) {
+	    //Create a reader that splits the input into lines and parses them without a Scanner per line
+	    CourseRecordReader fileReader = new CourseRecordReader(
+	            new InputStreamReader(in, Charset.defaultCharset()));
+	    HashSet<String> seen = new HashSet<String>(); //Name and section of every course passed on so far
+	    Spliterator<Course> courses = new Spliterators.AbstractSpliterator<Course>(Long.MAX_VALUE,
+	            Spliterator.ORDERED | Spliterator.NONNULL) {
+	        @Override
+	        public boolean tryAdvance(Consumer<? super Course> action) {
+	            Course course = nextCourse(fileReader, seen);
+	            if (course == null) {
+	                return false;
 	            }
-	            //If the course is NOT a duplicate
-	            if (!duplicate) {
-	                courses.add(course); //Add to the ArrayList!
-	            } //Otherwise ignore
-	        } catch (IllegalArgumentException e) {
-	            //The line is invalid b/c we couldn't create a course, skip it!
+	            action.accept(course);
+	            return true;
 	        }
-	    }
-	    //Close the Scanner b/c we're responsible with our file handles
-	    fileReader.close();
-	    //Return the ArrayList with all the courses we read!
-	    return courses;
+	    };
+	    //Close the reader b/c we're responsible with our file handles
+	    return StreamSupport.stream(courses, false).onClose(() -> closeQuietly(fileReader));
 	}
 
 	/**
-	 * Reads each line of text in file and constructs a course object for it a
-	 * @param line the input line containing course information from file
-	 * @return a Course object created using the input line
-	 * @throws IllegalArgumentException if the input line is in wrong format
+	 * Reads lines until one holds a valid Course whose name and section have not been seen.
+	 * @param fileReader the reader positioned before the next line
+	 * @param seen name and section of every course returned so far
+	 * @return the next Course to keep, or null at the end of the file
 	 */
-	private static Course readCourse(String line) {
-	    Scanner lineScanner = new Scanner(line);
-	    lineScanner.useDelimiter(",");
-	    //Attemps to store next values in line in proper variable types
+	private static Course nextCourse(CourseRecordReader fileReader, HashSet<String> seen) {
 	    try {
-	        String name = lineScanner.next().trim();
-	        String title = lineScanner.next().trim();
-	        String section = lineScanner.next().trim();
-	        int credits = lineScanner.nextInt();
-	        String instructorId = lineScanner.next().trim();
-	        String meetingDays = lineScanner.next().trim();
+	        while (fileReader.nextLine()) { //While we have more lines in the file
+	            try { //Attempt to do the following
+	                //Parse the line and get the object
+	                //If the line is not a valid Course, flow of control will transfer to the catch block, below
+	                Course course = fileReader.readCourse();
 
-	        if ("A".equals(meetingDays)) {
-	            // If meetingDays is "A", there should not be a next token so it throws
-	        	// an exception if there is
-	            if (lineScanner.hasNext()) {
-	                throw new IllegalArgumentException("Invalid meetingDays for course.");
+	                //Keep the course only if no earlier record had the same name and section.
+	                //HashSet.add returns false for a duplicate, so the first record wins.
+	                if (seen.add(recordKey(course))) {
+	                    return course;
+	                } //Otherwise ignore
+	            } catch (IllegalArgumentException e) {
+	                //The line is invalid b/c we couldn't create a course, skip it!
 	            }
-	            return new Course(name, title, section, credits, instructorId, meetingDays);
-	        } else {
-	            int startTime = lineScanner.nextInt();
-	            int endTime = lineScanner.nextInt();
+	        }
+	    } catch (IOException e) {
+	        //Stop at the first unreadable part of the file and keep what was read, as Scanner did
+	    }
+	    return null;
+	}
 
-	            // throws exception if too many tokens
-	            if (lineScanner.hasNext()) {
-	                throw new IllegalArgumentException("Too many tokens.");
-	            }
+	/**
+	 * Returns the key used to find duplicate course records.  Two records are
+	 * duplicates if they have the same name and section.  A comma can never
+	 * appear in a valid course name, so the key is unambiguous.
+	 * @param course the course to make a key for
+	 * @return the duplicate detection key for the course
+	 */
+	static String recordKey(Course course) {
+	    return course.getName() + "," + course.getSection();
+	}
 
-	            return new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime);
-	        }
-	        // if value is in wrong format it throws an exception
-	    } catch (Exception e) {
-	        throw new IllegalArgumentException("Invalid course format.");
-	    } finally {
-	        lineScanner.close();
+	/**
+	 * Closes the given reader, ignoring any error since the records have already been read.
+	 * @param reader the reader to close
+	 */
+	private static void closeQuietly(Closeable reader) {
+	    try {
+	        reader.close();
+	    } catch (IOException e) {
+	        //Nothing left to read, so there is nothing to recover
 	    }
 	}
 
-}
\ No newline at end of file
+}
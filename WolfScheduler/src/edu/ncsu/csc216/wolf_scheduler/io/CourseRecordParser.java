@@ -0,0 +1,199 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Parses a single course record line into a Course without building a Scanner.
+ * The line is split on commas by hand, directly over the caller's characters, and
+ * accepts and rejects exactly the same lines as a Scanner with a "," delimiter:
+ * one comma at the start of a line is skipped, adjacent commas give an empty token,
+ * and a single trailing comma does not start another token.  Integer fields are
+ * not trimmed and follow Integer.parseInt.
+ *
+ * A parser keeps its token positions and line buffer between calls, so it is not
+ * safe to share one parser between threads.
+ *
+ * @author Brandon Wroblewski
+ */
+final class CourseRecordParser {
+
+	/** Number of tokens in a course record with a start and end time */
+	private static final int TIMED_TOKENS = 8;
+	/** Number of tokens in a course record for an arranged course */
+	private static final int ARRANGED_TOKENS = 6;
+	/** Index of the credits token */
+	private static final int CREDITS = 3;
+	/** Index of the meeting days token */
+	private static final int MEETING_DAYS = 5;
+	/** Index of the start time token */
+	private static final int START_TIME = 6;
+	/** Index of the end time token */
+	private static final int END_TIME = 7;
+	/** Initial size of the buffer used for lines passed in as Strings */
+	private static final int INITIAL_BUFFER_SIZE = 128;
+
+	/** Start of each token in the current line, one extra to detect too many tokens */
+	private final int[] tokenStart = new int[TIMED_TOKENS + 1];
+	/** End (exclusive) of each token in the current line */
+	private final int[] tokenEnd = new int[TIMED_TOKENS + 1];
+	/** Characters of the current line when it was passed in as a String */
+	private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+
+	/**
+	 * Returns the buffer that parse(char[], int, int) callers may fill with a line,
+	 * growing it first if it is smaller than the given capacity.
+	 * @param capacity number of characters the caller needs to store
+	 * @return a reusable character buffer of at least the given capacity
+	 */
+	char[] buffer(int capacity) {
+		if (buffer.length < capacity) {
+			buffer = new char[Math.max(capacity, buffer.length * 2)];
+		}
+		return buffer;
+	}
+
+	/**
+	 * Parses a course record line.
+	 * @param line the input line containing course information from file
+	 * @return a Course object created using the input line
+	 * @throws IllegalArgumentException if the input line is in wrong format
+	 */
+	Course parse(String line) {
+		char[] chars = buffer(line.length());
+		line.getChars(0, line.length(), chars, 0);
+		return parse(chars, 0, line.length());
+	}
+
+	/**
+	 * Parses the course record line stored in chars[start, end).
+	 * @param chars characters holding the line
+	 * @param start index of the first character of the line
+	 * @param end index one past the last character of the line
+	 * @return a Course object created using the input line
+	 * @throws IllegalArgumentException if the input line is in wrong format
+	 */
+	Course parse(char[] chars, int start, int end) {
+		int count = tokenize(chars, start, end);
+		// Each record needs at least name, title, section, credits, instructor, and meeting days
+		if (count < ARRANGED_TOKENS) {
+			throw new IllegalArgumentException("Invalid course format.");
+		}
+		int credits = parseInt(chars, tokenStart[CREDITS], tokenEnd[CREDITS]);
+		String name = trimmed(chars, 0);
+		String title = trimmed(chars, 1);
+		String section = trimmed(chars, 2);
+		String instructorId = trimmed(chars, 4);
+		String meetingDays = trimmed(chars, MEETING_DAYS);
+		try {
+			if ("A".equals(meetingDays)) {
+				// An arranged course has no start and end time so there should be no next token
+				if (count > ARRANGED_TOKENS) {
+					throw new IllegalArgumentException("Invalid course format.");
+				}
+				return new Course(name, title, section, credits, instructorId, meetingDays);
+			}
+			// throws exception if the times are missing or there are too many tokens
+			if (count != TIMED_TOKENS) {
+				throw new IllegalArgumentException("Invalid course format.");
+			}
+			int startTime = parseInt(chars, tokenStart[START_TIME], tokenEnd[START_TIME]);
+			int endTime = parseInt(chars, tokenStart[END_TIME], tokenEnd[END_TIME]);
+			return new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime);
+		} catch (IllegalArgumentException e) {
+			// the Course constructor rejected a field
+			throw new IllegalArgumentException("Invalid course format.");
+		}
+	}
+
+	/**
+	 * Splits chars[start, end) on commas, recording at most one more token than a
+	 * valid record can have.
+	 * @param chars characters holding the line
+	 * @param start index of the first character of the line
+	 * @param end index one past the last character of the line
+	 * @return the number of tokens found, up to TIMED_TOKENS + 1
+	 */
+	private int tokenize(char[] chars, int start, int end) {
+		int count = 0;
+		int pos = start;
+		while (count < tokenStart.length) {
+			// skip the delimiter in front of the next token, if there is one
+			if (pos < end && chars[pos] == ',') {
+				pos++;
+			}
+			if (pos >= end) {
+				break;
+			}
+			tokenStart[count] = pos;
+			while (pos < end && chars[pos] != ',') {
+				pos++;
+			}
+			tokenEnd[count] = pos;
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the given token with leading and trailing whitespace removed, as String.trim() would.
+	 * @param chars characters holding the line
+	 * @param token index of the token
+	 * @return the trimmed token
+	 */
+	private String trimmed(char[] chars, int token) {
+		int start = tokenStart[token];
+		int end = tokenEnd[token];
+		while (start < end && chars[start] <= ' ') {
+			start++;
+		}
+		while (end > start && chars[end - 1] <= ' ') {
+			end--;
+		}
+		return new String(chars, start, end - start);
+	}
+
+	/**
+	 * Parses chars[start, end) as a signed decimal int the same way Integer.parseInt does,
+	 * without creating a String.
+	 * @param chars characters holding the number
+	 * @param start index of the first character of the number
+	 * @param end index one past the last character of the number
+	 * @return the parsed value
+	 * @throws IllegalArgumentException if the characters are not a valid int
+	 */
+	private static int parseInt(char[] chars, int start, int end) {
+		if (start >= end) {
+			throw new IllegalArgumentException("Invalid course format.");
+		}
+		int i = start;
+		boolean negative = false;
+		int limit = -Integer.MAX_VALUE;
+		char first = chars[i];
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			if (negative) {
+				limit = Integer.MIN_VALUE;
+			}
+			i++;
+			// a lone sign is not a number
+			if (i == end) {
+				throw new IllegalArgumentException("Invalid course format.");
+			}
+		}
+		// accumulate negatively so that Integer.MIN_VALUE can be represented
+		int multmin = limit / 10;
+		int result = 0;
+		while (i < end) {
+			int digit = Character.digit(chars[i++], 10);
+			if (digit < 0 || result < multmin) {
+				throw new IllegalArgumentException("Invalid course format.");
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw new IllegalArgumentException("Invalid course format.");
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+}
@@ -0,0 +1,136 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Reads course record lines from a Reader into a single reused character buffer
+ * and parses them with a CourseRecordParser.  Lines end at the same terminators
+ * as Scanner.nextLine(): "\r\n", '\n', '\r', '\u2028', '\u2029', and '\u0085'.
+ * A final line without a terminator is still read, but nothing after the last
+ * terminator is.
+ *
+ * @author Brandon Wroblewski
+ */
+final class CourseRecordReader implements Closeable {
+
+	/** Initial size of the character buffer */
+	private static final int INITIAL_BUFFER_SIZE = 8192;
+
+	/** Source of the course records */
+	private final Reader in;
+	/** Parser for the current line */
+	private final CourseRecordParser parser = new CourseRecordParser();
+	/** Characters read from the source that have not been consumed yet start at pos */
+	private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+	/** Index of the first unconsumed character in the buffer */
+	private int pos;
+	/** Index one past the last character read into the buffer */
+	private int limit;
+	/** True once the source has no more characters */
+	private boolean eof;
+	/** Index of the first character of the current line */
+	private int lineStart;
+	/** Index one past the last character of the current line */
+	private int lineEnd;
+
+	/**
+	 * Constructs a CourseRecordReader for the given source.
+	 * @param in source of the course records
+	 */
+	CourseRecordReader(Reader in) {
+		this.in = in;
+	}
+
+	/**
+	 * Advances to the next line of the source.
+	 * @return true if there is a next line, false at the end of the source
+	 * @throws IOException if the source cannot be read
+	 */
+	boolean nextLine() throws IOException {
+		int i = pos;
+		while (true) {
+			while (i < limit) {
+				char c = buffer[i];
+				if (c == '\n' || c == '\u2028' || c == '\u2029' || c == '\u0085') {
+					return endLine(i, i + 1);
+				}
+				if (c == '\r') {
+					// a '\r' at the end of the buffer may be the first half of "\r\n"
+					if (i + 1 == limit && !eof) {
+						i -= fill();
+						continue;
+					}
+					return endLine(i, i + 1 < limit && buffer[i + 1] == '\n' ? i + 2 : i + 1);
+				}
+				i++;
+			}
+			if (eof) {
+				// the last line does not need a terminator, but must not be empty
+				return pos < limit && endLine(limit, limit);
+			}
+			i -= fill();
+		}
+	}
+
+	/**
+	 * Parses the current line into a Course.
+	 * @return a Course object created using the current line
+	 * @throws IllegalArgumentException if the line is in wrong format
+	 */
+	Course readCourse() {
+		return parser.parse(buffer, lineStart, lineEnd);
+	}
+
+	/**
+	 * Closes the source.
+	 * @throws IOException if the source cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	/**
+	 * Marks buffer[pos, terminator) as the current line and consumes it.
+	 * @param terminator index of the line terminator
+	 * @param next index of the first character after the terminator
+	 * @return true, so callers can return the result directly
+	 */
+	private boolean endLine(int terminator, int next) {
+		lineStart = pos;
+		lineEnd = terminator;
+		pos = next;
+		return true;
+	}
+
+	/**
+	 * Moves the unconsumed characters to the front of the buffer, growing it if the
+	 * unconsumed characters fill it, and reads more characters after them.
+	 * @return how far the unconsumed characters moved towards the front
+	 * @throws IOException if the source cannot be read
+	 */
+	private int fill() throws IOException {
+		int shift = pos;
+		int remaining = limit - pos;
+		if (remaining == buffer.length) {
+			char[] larger = new char[buffer.length * 2];
+			System.arraycopy(buffer, pos, larger, 0, remaining);
+			buffer = larger;
+		} else {
+			System.arraycopy(buffer, pos, buffer, 0, remaining);
+		}
+		pos = 0;
+		limit = remaining;
+		int read = in.read(buffer, limit, buffer.length - limit);
+		if (read < 0) {
+			eof = true;
+		} else {
+			limit += read;
+		}
+		return shift;
+	}
+}
@@ -0,0 +1,243 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.CourseSnapshot;
+
+/**
+ * Reads and writes binary snapshots of a course catalog so it can be loaded without
+ * tokenizing the text records or checking every field again.  A snapshot holds the
+ * Courses that CourseRecordIO.readCourseRecords() returned for a catalog file, in the
+ * same order, in the format of CourseSnapshot.
+ * <p>
+ * A snapshot is stale once its catalog file has a different length or modification
+ * time.  readCourseRecords() then loads the catalog file itself and writes a fresh
+ * snapshot for the next load.  A damaged snapshot fails its checksum or one of its
+ * bounds checks and falls back to the catalog file the same way.
+ * <p>
+ * Snapshots are kept in a cache directory, by default USER_SNAPSHOT_DIRECTORY, named
+ * after the catalog file they were made from, so no file is ever written next to a
+ * catalog the user opens.
+ *
+ * @author Brandon Wroblewski
+ */
+public class CourseSnapshotIO {
+
+	/** Per-user directory the application keeps its catalog snapshots in */
+	public static final String USER_SNAPSHOT_DIRECTORY =
+			Paths.get(System.getProperty("user.home"), ".wolf_scheduler", "snapshots").toString();
+
+	/**
+	 * Returns the snapshot file of a catalog file in a cache directory.  Catalog files
+	 * with the same name in different directories get different snapshots.
+	 * @param snapshotDirectory directory the snapshots are kept in
+	 * @param fileName catalog file
+	 * @return the snapshot file of fileName
+	 */
+	public static String getSnapshotFileName(String snapshotDirectory, String fileName) {
+		Path source = Paths.get(fileName).toAbsolutePath().normalize();
+		String id = Integer.toHexString(source.toString().hashCode());
+		return Paths.get(snapshotDirectory, source.getFileName() + "-" + id + ".snapshot").toString();
+	}
+
+	/**
+	 * Loads the catalog in fileName from its snapshot when the snapshot is valid and
+	 * was made from the current catalog file.  Otherwise the catalog file is read with
+	 * CourseRecordIO.readCourseRecords() and the snapshot is rewritten.  Failing to
+	 * write the snapshot does not fail the load.
+	 * @param fileName file to read Course records from
+	 * @param snapshotFileName snapshot of fileName to read and refresh
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static ArrayList<Course> readCourseRecords(String fileName, String snapshotFileName) throws FileNotFoundException {
+		Path source = Paths.get(fileName);
+		BasicFileAttributes attributes = readAttributes(source);
+		ArrayList<Course> courses = readSnapshotOrNull(Paths.get(snapshotFileName), attributes);
+		if (courses == null) {
+			// the attributes were read first, so a catalog that changes while it is read leaves a stale snapshot
+			courses = CourseRecordIO.readCourseRecords(fileName);
+			writeSnapshotQuietly(Paths.get(snapshotFileName), attributes, courses);
+		}
+		return courses;
+	}
+
+	/**
+	 * Loads the catalog in fileName from its snapshot like readCourseRecords(String, String),
+	 * optionally reading the catalog file on all cores with
+	 * MappedCourseRecordIO.readCourseRecordsParallel() when the snapshot cannot be used.
+	 * @param fileName file to read Course records from
+	 * @param snapshotFileName snapshot of fileName to read and refresh
+	 * @param parallelLoad true to read the catalog file in parallel
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IOException if the file cannot be mapped for a parallel load
+	 */
+	public static ArrayList<Course> readCourseRecords(String fileName, String snapshotFileName, boolean parallelLoad)
+			throws IOException {
+		if (!parallelLoad) {
+			return readCourseRecords(fileName, snapshotFileName);
+		}
+		BasicFileAttributes attributes = readAttributes(Paths.get(fileName));
+		ArrayList<Course> courses = readSnapshotOrNull(Paths.get(snapshotFileName), attributes);
+		if (courses == null) {
+			courses = MappedCourseRecordIO.readCourseRecordsParallel(fileName);
+			writeSnapshotQuietly(Paths.get(snapshotFileName), attributes, courses);
+		}
+		return courses;
+	}
+
+	/**
+	 * Reads the Courses in a snapshot of fileName.
+	 * @param snapshotFileName snapshot to read
+	 * @param fileName catalog file the snapshot must have been made from
+	 * @return the Courses in the snapshot
+	 * @throws IllegalArgumentException if the snapshot is stale or damaged
+	 * @throws IOException if either file cannot be read
+	 */
+	public static ArrayList<Course> readSnapshot(String snapshotFileName, String fileName) throws IOException {
+		return readSnapshot(Paths.get(snapshotFileName), Files.readAttributes(Paths.get(fileName), BasicFileAttributes.class));
+	}
+
+	/**
+	 * Reads the Courses in a snapshot of a catalog file whose attributes were read
+	 * before it was loaded, as readCourseRecords() does.
+	 * @param snapshotFileName snapshot to read
+	 * @param source attributes of the catalog file the snapshot must have been made from
+	 * @return the Courses in the snapshot
+	 * @throws IllegalArgumentException if the snapshot is stale or damaged
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	public static ArrayList<Course> readSnapshot(String snapshotFileName, BasicFileAttributes source) throws IOException {
+		return readSnapshot(Paths.get(snapshotFileName), source);
+	}
+
+	/**
+	 * Writes a snapshot of the Courses read from fileName.  The snapshot is written to a
+	 * temporary file that then replaces snapshotFileName, so a reader never sees part
+	 * of a snapshot.  The snapshot's directory is made if it is missing.
+	 * @param snapshotFileName snapshot to write
+	 * @param fileName catalog file the Courses were read from
+	 * @param courses the Courses read from fileName
+	 * @throws IOException if the catalog file cannot be read or the snapshot cannot be written
+	 */
+	public static void writeSnapshot(String snapshotFileName, String fileName, ArrayList<Course> courses) throws IOException {
+		writeSnapshot(Paths.get(snapshotFileName), Files.readAttributes(Paths.get(fileName), BasicFileAttributes.class), courses);
+	}
+
+	/**
+	 * Writes a snapshot of Courses read from a catalog file, stamped with the
+	 * attributes the file had before it was read, so a file changed during the read
+	 * leaves a stale snapshot rather than a wrong one.
+	 * @param snapshotFileName snapshot to write
+	 * @param source attributes of the catalog file before the Courses were read
+	 * @param courses the Courses read from the catalog file
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public static void writeSnapshot(String snapshotFileName, BasicFileAttributes source, ArrayList<Course> courses) throws IOException {
+		writeSnapshot(Paths.get(snapshotFileName), source, courses);
+	}
+
+	/**
+	 * Reads the attributes of a catalog file.
+	 * @param source the catalog file
+	 * @return its attributes
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	private static BasicFileAttributes readAttributes(Path source) throws FileNotFoundException {
+		try {
+			return Files.readAttributes(source, BasicFileAttributes.class);
+		} catch (IOException e) {
+			throw new FileNotFoundException(source.toString());
+		}
+	}
+
+	/**
+	 * Reads the Courses in a snapshot, or returns null if it cannot be used.
+	 * @param snapshot snapshot to read
+	 * @param source attributes of the catalog file
+	 * @return the Courses in the snapshot, or null if it is missing, stale, or damaged
+	 */
+	private static ArrayList<Course> readSnapshotOrNull(Path snapshot, BasicFileAttributes source) {
+		try {
+			return readSnapshot(snapshot, source);
+		} catch (IllegalArgumentException | IOException e) {
+			// missing, stale, or damaged, so the caller falls back to the catalog file
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a snapshot, leaving the next load to fall back to the catalog file again
+	 * if it cannot be written.
+	 * @param snapshot snapshot to write
+	 * @param source attributes of the catalog file when the Courses were read
+	 * @param courses the Courses to write
+	 */
+	private static void writeSnapshotQuietly(Path snapshot, BasicFileAttributes source, ArrayList<Course> courses) {
+		try {
+			writeSnapshot(snapshot, source, courses);
+		} catch (IOException e) {
+			// the next load falls back to the catalog file again
+		}
+	}
+
+	/**
+	 * Reads the Courses in a snapshot, checking it against the catalog file's attributes.
+	 * @param snapshot snapshot to read
+	 * @param source attributes of the catalog file
+	 * @return the Courses in the snapshot
+	 * @throws IllegalArgumentException if the snapshot is stale or damaged
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	private static ArrayList<Course> readSnapshot(Path snapshot, BasicFileAttributes source) throws IOException {
+		byte[] bytes;
+		try {
+			bytes = Files.readAllBytes(snapshot);
+		} catch (NoSuchFileException e) {
+			throw new FileNotFoundException(snapshot.toString());
+		}
+		return CourseSnapshot.decode(bytes, source.size(), source.lastModifiedTime().toMillis());
+	}
+
+	/**
+	 * Writes a snapshot of Courses read from a catalog file with the given attributes.
+	 * @param snapshot snapshot to write
+	 * @param source attributes of the catalog file when the Courses were read
+	 * @param courses the Courses to write
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	private static void writeSnapshot(Path snapshot, BasicFileAttributes source, ArrayList<Course> courses) throws IOException {
+		ByteBuffer bytes = ByteBuffer.wrap(CourseSnapshot.encode(courses, source.size(), source.lastModifiedTime().toMillis()));
+		Path directory = snapshot.toAbsolutePath().getParent();
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+		Path temp = snapshot.resolveSibling(snapshot.getFileName() + "." + System.nanoTime() + ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+				while (bytes.hasRemaining()) {
+					channel.write(bytes);
+				}
+				// on disk before the rename, so a crash cannot leave an empty snapshot in place
+				channel.force(true);
+			}
+			ActivityRecordIO.moveReplacing(temp, snapshot);
+		} finally {
+			// only left behind if writing or moving failed
+			Files.deleteIfExists(temp);
+		}
+	}
+
+}
@@ -0,0 +1,411 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Reads Course records from text files by memory-mapping them instead of streaming
+ * them through a Scanner.  Records are split on line boundaries directly in the
+ * mapped bytes and only copied into a small reused character buffer to be parsed,
+ * so very large catalog files load with little garbage and through the page cache.
+ * The result is the same list of Courses that CourseRecordIO.readCourseRecords()
+ * returns for the file.
+ *
+ * @author Brandon Wroblewski
+ */
+public class MappedCourseRecordIO {
+
+	/** Largest region of a file that is mapped at once */
+	private static final int MAX_WINDOW_SIZE = 1 << 30;
+	/** Approximate number of bytes parsed by each task when loading in parallel */
+	private static final int CHUNK_SIZE = 1 << 18;
+	/** Characters that must encode to their ASCII bytes for lines to be split on bytes */
+	private static final String ASCII_PROBE = "\n\r, 0123456789AZaz";
+
+	/**
+	 * Reads course records from a file and generates a list of valid Courses.  Any invalid
+	 * Courses are ignored, and only the first record for each name and section is kept.
+	 * Files are mapped in windows of up to 1GB, and a single line that is longer than
+	 * a window is skipped.
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IOException if the file cannot be mapped
+	 */
+	public static ArrayList<Course> readCourseRecords(String fileName) throws IOException {
+		return readCourseRecords(fileName, MAX_WINDOW_SIZE);
+	}
+
+	/**
+	 * Reads course records from a file, mapping at most windowSize bytes at a time.
+	 * @param fileName file to read Course records from
+	 * @param windowSize largest region of the file to map at once
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IOException if the file cannot be mapped
+	 */
+	static ArrayList<Course> readCourseRecords(String fileName, int windowSize) throws IOException {
+		Charset charset = Charset.defaultCharset();
+		// Lines can only be found by looking for '\n' and '\r' bytes in ASCII based encodings
+		if (!isAsciiCompatible(charset)) {
+			return CourseRecordIO.readCourseRecords(fileName);
+		}
+		ArrayList<Course> courses = new ArrayList<Course>();
+		HashSet<String> seen = new HashSet<String>();
+		ChunkParser parser = new ChunkParser(charset);
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "r")) {
+			forEachWindow(file.getChannel(), windowSize, (window, start, end) -> {
+				parser.parse(window, start, end, course -> {
+					// the first record for a name and section wins
+					if (seen.add(CourseRecordIO.recordKey(course))) {
+						courses.add(course);
+					}
+				});
+			});
+		}
+		return courses;
+	}
+
+	/**
+	 * Reads course records from a file on the common ForkJoinPool and generates a list
+	 * of valid Courses.  The result is the same as readCourseRecords().
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IOException if the file cannot be mapped
+	 */
+	public static ArrayList<Course> readCourseRecordsParallel(String fileName) throws IOException {
+		return readCourseRecordsParallel(fileName, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Reads course records from a file on the given ForkJoinPool and generates a list of
+	 * valid Courses.  Each mapped window is split into line-aligned chunks that are
+	 * parsed and validated in parallel.  The chunks are then merged in file order, so
+	 * the first record for each name and section still wins and the result is the
+	 * same as readCourseRecords().
+	 * @param fileName file to read Course records from
+	 * @param pool the pool that parses the chunks
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IOException if the file cannot be mapped
+	 */
+	public static ArrayList<Course> readCourseRecordsParallel(String fileName, ForkJoinPool pool) throws IOException {
+		return readCourseRecordsParallel(fileName, pool, MAX_WINDOW_SIZE, CHUNK_SIZE);
+	}
+
+	/**
+	 * Reads course records from a file in parallel with the given window and chunk sizes.
+	 * @param fileName file to read Course records from
+	 * @param pool the pool that parses the chunks
+	 * @param windowSize largest region of the file to map at once
+	 * @param chunkSize approximate number of bytes parsed by each task
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IOException if the file cannot be mapped
+	 */
+	static ArrayList<Course> readCourseRecordsParallel(String fileName, ForkJoinPool pool, int windowSize,
+			int chunkSize) throws IOException {
+		Charset charset = Charset.defaultCharset();
+		// Lines can only be found by looking for '\n' and '\r' bytes in ASCII based encodings
+		if (!isAsciiCompatible(charset)) {
+			return CourseRecordIO.readCourseRecords(fileName);
+		}
+		ArrayList<Course> courses = new ArrayList<Course>();
+		HashSet<String> seen = new HashSet<String>();
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "r")) {
+			forEachWindow(file.getChannel(), windowSize, (window, start, end) -> {
+				// Split the window after the first line terminator past every chunkSize bytes
+				ArrayList<ForkJoinTask<ArrayList<Course>>> chunks = new ArrayList<ForkJoinTask<ArrayList<Course>>>();
+				int chunkStart = start;
+				while (chunkStart < end) {
+					int chunkEnd = end - chunkStart <= chunkSize ? -1 : afterFirstTerminator(window, chunkStart + chunkSize, end);
+					if (chunkEnd < 0) {
+						chunkEnd = end;
+					}
+					chunks.add(pool.submit(new ChunkTask(window, chunkStart, chunkEnd, charset)));
+					chunkStart = chunkEnd;
+				}
+				// Merge the chunks in file order so that the first record for a name and section wins
+				for (ForkJoinTask<ArrayList<Course>> chunk : chunks) {
+					for (Course course : chunk.join()) {
+						if (seen.add(CourseRecordIO.recordKey(course))) {
+							courses.add(course);
+						}
+					}
+				}
+			});
+		}
+		return courses;
+	}
+
+	/**
+	 * Maps the channel one window at a time and passes every window to the action,
+	 * trimmed so that it holds only whole lines.  A line cut off at the end of a
+	 * window is mapped again at the start of the next window.
+	 * @param channel the file to map
+	 * @param windowSize largest region of the file to map at once
+	 * @param action receives each window and the range of whole lines in it
+	 * @throws IOException if the file cannot be mapped
+	 */
+	static void forEachWindow(FileChannel channel, int windowSize, WindowAction action) throws IOException {
+		long size = channel.size();
+		long offset = 0;
+		// true while skipping the rest of a line that did not fit in a window
+		boolean skipping = false;
+		while (offset < size) {
+			int length = (int) Math.min(windowSize, size - offset);
+			MappedByteBuffer window = channel.map(MapMode.READ_ONLY, offset, length);
+			boolean lastWindow = offset + length == size;
+			int start = 0;
+			if (skipping) {
+				start = afterFirstTerminator(window, 0, length);
+				if (start < 0) {
+					offset += length;
+					continue;
+				}
+				skipping = false;
+			}
+			int end = lastWindow ? length : afterLastTerminator(window, start, length);
+			if (end < 0 && start > 0) {
+				// the line starting at start continues past this window, so map it again
+				end = start;
+			} else if (end < 0) {
+				// the line starting at the window is longer than a whole window
+				skipping = true;
+				end = length;
+			} else {
+				action.accept(window, start, end);
+			}
+			offset += end;
+		}
+	}
+
+	/**
+	 * Returns the index after the first line terminator in bytes[from, to).
+	 * @param bytes the bytes to search
+	 * @param from first index to search
+	 * @param to index one past the last index to search
+	 * @return the index after the first '\n' or '\r', or -1 if there is none
+	 */
+	static int afterFirstTerminator(ByteBuffer bytes, int from, int to) {
+		for (int i = from; i < to; i++) {
+			byte b = bytes.get(i);
+			if (b == '\n' || b == '\r') {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index after the last line terminator in bytes[from, to).
+	 * @param bytes the bytes to search
+	 * @param from first index to search
+	 * @param to index one past the last index to search
+	 * @return the index after the last '\n' or '\r', or -1 if there is none
+	 */
+	static int afterLastTerminator(ByteBuffer bytes, int from, int to) {
+		for (int i = to - 1; i >= from; i--) {
+			byte b = bytes.get(i);
+			if (b == '\n' || b == '\r') {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns true if the charset encodes line terminators, commas, digits, and letters
+	 * as single ASCII bytes, so that lines can be split without decoding.
+	 * @param charset the charset of the file
+	 * @return true if the charset is ASCII compatible
+	 */
+	static boolean isAsciiCompatible(Charset charset) {
+		return charset.canEncode() && Arrays.equals(ASCII_PROBE.getBytes(charset),
+				ASCII_PROBE.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Receives a mapped window of a file and the range of whole lines in it.
+	 */
+	interface WindowAction {
+		/**
+		 * Processes the lines in window[start, end).
+		 * @param window the mapped bytes
+		 * @param start index of the first byte of the first line
+		 * @param end index one past the last byte of the last line
+		 */
+		void accept(MappedByteBuffer window, int start, int end);
+	}
+
+	/**
+	 * Parses the valid Courses in one chunk of a mapped window with its own ChunkParser.
+	 */
+	private static final class ChunkTask extends RecursiveTask<ArrayList<Course>> {
+
+		/** ID used for serialization. */
+		private static final long serialVersionUID = 1L;
+		/** The mapped window holding the chunk */
+		private final transient MappedByteBuffer window;
+		/** Index of the first byte of the chunk */
+		private final int start;
+		/** Index one past the last byte of the chunk */
+		private final int end;
+		/** Encoding of the file */
+		private final transient Charset charset;
+
+		/**
+		 * Constructs a task that parses window[start, end).
+		 * @param window the mapped window holding the chunk
+		 * @param start index of the first byte of the chunk
+		 * @param end index one past the last byte of the chunk
+		 * @param charset encoding of the file
+		 */
+		ChunkTask(MappedByteBuffer window, int start, int end, Charset charset) {
+			this.window = window;
+			this.start = start;
+			this.end = end;
+			this.charset = charset;
+		}
+
+		/**
+		 * Parses the chunk.
+		 * @return the valid Courses in the chunk in file order, including duplicates
+		 */
+		@Override
+		protected ArrayList<Course> compute() {
+			ArrayList<Course> courses = new ArrayList<Course>();
+			new ChunkParser(charset).parse(window, start, end, courses::add);
+			return courses;
+		}
+	}
+
+	/**
+	 * Parses the course records in a range of bytes.  Each ChunkParser reuses one
+	 * CourseRecordParser, so a ChunkParser must only be used by one thread at a time.
+	 */
+	static final class ChunkParser {
+
+		/** Parser for a single line */
+		private final CourseRecordParser parser = new CourseRecordParser();
+		/** Encoding of the file */
+		private final Charset charset;
+
+		/**
+		 * Constructs a ChunkParser for a file in the given encoding.
+		 * @param charset encoding of the file
+		 */
+		ChunkParser(Charset charset) {
+			this.charset = charset;
+		}
+
+		/**
+		 * Parses every line in bytes[from, to) and passes each valid Course to the action
+		 * in file order.  Lines end at '\n', '\r', or "\r\n".
+		 * @param bytes the bytes holding the lines
+		 * @param from index of the first byte of the first line
+		 * @param to index one past the last byte of the last line
+		 * @param action receives each valid Course
+		 */
+		void parse(ByteBuffer bytes, int from, int to, Consumer<Course> action) {
+			int lineStart = from;
+			// negative once the line has a byte that is not ASCII
+			int ascii = 0;
+			for (int i = from; i < to; i++) {
+				byte b = bytes.get(i);
+				if (b == '\n' || b == '\r') {
+					parseLine(bytes, lineStart, i, ascii, action);
+					// "\r\n" ends a single line
+					if (b == '\r' && i + 1 < to && bytes.get(i + 1) == '\n') {
+						i++;
+					}
+					lineStart = i + 1;
+					ascii = 0;
+				} else {
+					ascii |= b;
+				}
+			}
+			if (lineStart < to) {
+				parseLine(bytes, lineStart, to, ascii, action);
+			}
+		}
+
+		/**
+		 * Parses the line in bytes[start, end).  An ASCII line is widened straight into
+		 * the parser's buffer.  Any other line is decoded and split again on the Unicode
+		 * line terminators that Scanner.nextLine() also recognizes.
+		 * @param bytes the bytes holding the line
+		 * @param start index of the first byte of the line
+		 * @param end index one past the last byte of the line
+		 * @param ascii negative if the line has a byte that is not ASCII
+		 * @param action receives the Course if the line is valid
+		 */
+		private void parseLine(ByteBuffer bytes, int start, int end, int ascii, Consumer<Course> action) {
+			// an empty line is never a valid Course
+			if (start == end) {
+				return;
+			}
+			if (ascii >= 0) {
+				char[] chars = parser.buffer(end - start);
+				for (int i = start; i < end; i++) {
+					chars[i - start] = (char) bytes.get(i);
+				}
+				parseChars(chars, 0, end - start, action);
+				return;
+			}
+			ByteBuffer line = bytes.duplicate();
+			line.limit(end).position(start);
+			CharBuffer decoded = charset.decode(line);
+			char[] chars = decoded.array();
+			int subStart = decoded.arrayOffset() + decoded.position();
+			int limit = decoded.arrayOffset() + decoded.limit();
+			for (int i = subStart; i < limit; i++) {
+				char c = chars[i];
+				if (c == '\u2028' || c == '\u2029' || c == '\u0085') {
+					parseChars(chars, subStart, i, action);
+					subStart = i + 1;
+				}
+			}
+			parseChars(chars, subStart, limit, action);
+		}
+
+		/**
+		 * Parses chars[start, end) and passes the Course to the action if it is valid.
+		 * @param chars characters of the line
+		 * @param start index of the first character of the line
+		 * @param end index one past the last character of the line
+		 * @param action receives the Course if the line is valid
+		 */
+		private void parseChars(char[] chars, int start, int end, Consumer<Course> action) {
+			if (start == end) {
+				return;
+			}
+			Course course;
+			try {
+				course = parser.parse(chars, start, end);
+			} catch (IllegalArgumentException e) {
+				// The line is invalid b/c we couldn't create a course, skip it!
+				return;
+			}
+			action.accept(course);
+		}
+	}
+}
@@ -0,0 +1,284 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseSnapshotIO;
+
+/**
+ * Reads a CourseCatalog from a course records file a batch of sections at a time,
+ * so that a display can show the sections as they are read and a progress bar.
+ * The load runs on the thread that calls load(), and any thread can read the
+ * progress or cancel it.  A cancelled load stops at the next section and keeps the
+ * sections read so far.
+ * <p>
+ * Given a snapshot directory, the loader reads the catalog from the snapshot made
+ * from the current file when there is one, and passes its sections on in the same
+ * batches.  Otherwise it reads the file and, unless cancelled, makes the snapshot
+ * for the next load.
+ *
+ * @author Brandon Wroblewski
+ */
+public class CatalogLoader {
+
+	/** Sections passed on in a batch unless another is given */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	/** File to read */
+	private final String fileName;
+	/** Most sections passed on in a batch */
+	private final int batchSize;
+	/** Directory the catalog snapshot is kept in, null to always read the file */
+	private final String snapshotDirectory;
+	/** Length of the file in bytes, 0 if it is empty or unknown */
+	private volatile long fileLength;
+	/** Bytes of the file read so far */
+	private volatile long bytesRead;
+	/** Sections read so far */
+	private volatile int sectionsRead;
+	/** Set to stop the load */
+	private volatile boolean cancelled;
+
+	/**
+	 * Constructs a CatalogLoader with the default batch size.
+	 *
+	 * @param fileName file to read Course records from
+	 */
+	public CatalogLoader(String fileName) {
+		this(fileName, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs a CatalogLoader.
+	 *
+	 * @param fileName file to read Course records from
+	 * @param batchSize most sections passed on in a batch
+	 * @throws IllegalArgumentException if batchSize is less than 1
+	 */
+	public CatalogLoader(String fileName, int batchSize) {
+		this(fileName, batchSize, null);
+	}
+
+	/**
+	 * Constructs a CatalogLoader that loads from a snapshot of the catalog when it can.
+	 *
+	 * @param fileName file to read Course records from
+	 * @param batchSize most sections passed on in a batch
+	 * @param snapshotDirectory directory to keep the catalog snapshot in, such as
+	 * CourseSnapshotIO.USER_SNAPSHOT_DIRECTORY, or null to always read the file
+	 * @throws IllegalArgumentException if batchSize is less than 1
+	 */
+	public CatalogLoader(String fileName, int batchSize, String snapshotDirectory) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Invalid batch size.");
+		}
+		this.fileName = fileName;
+		this.batchSize = batchSize;
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Reads the catalog, passing the sections read to an action a batch at a time
+	 * in file order.  The sections are the same ones CourseRecordIO.readCourseRecords()
+	 * reads.
+	 *
+	 * @param batchAction action to pass each batch of sections to, on this thread
+	 * @return the catalog of the sections read, all of them unless the load was cancelled
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public CourseCatalog load(Consumer<ArrayList<Course>> batchAction) throws FileNotFoundException {
+		if (snapshotDirectory == null) {
+			return readFile(batchAction);
+		}
+		String snapshot = CourseSnapshotIO.getSnapshotFileName(snapshotDirectory, fileName);
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(Paths.get(fileName), BasicFileAttributes.class);
+		} catch (IOException e) {
+			throw new FileNotFoundException(fileName);
+		}
+		try {
+			return passOn(CourseSnapshotIO.readSnapshot(snapshot, attributes), attributes.size(), batchAction);
+		} catch (IllegalArgumentException | IOException e) {
+			// missing, stale, or damaged, so read the file
+		}
+		CourseCatalog catalog = readFile(batchAction);
+		if (!cancelled) {
+			try {
+				CourseSnapshotIO.writeSnapshot(snapshot, attributes, catalog.getCourses());
+			} catch (IOException e) {
+				// the next load reads the file again
+			}
+		}
+		return catalog;
+	}
+
+	/**
+	 * Passes the sections read from a snapshot on in batches, as if they were read
+	 * from the file.
+	 *
+	 * @param snapshot the sections in the snapshot
+	 * @param length length of the file the snapshot was made from
+	 * @param batchAction action to pass each batch of sections to, on this thread
+	 * @return the catalog of the sections passed on, all of them unless the load was cancelled
+	 */
+	private CourseCatalog passOn(ArrayList<Course> snapshot, long length, Consumer<ArrayList<Course>> batchAction) {
+		fileLength = length;
+		bytesRead = length;
+		int passed = 0;
+		while (!cancelled && passed < snapshot.size()) {
+			int end = Math.min(passed + batchSize, snapshot.size());
+			ArrayList<Course> batch = new ArrayList<Course>(snapshot.subList(passed, end));
+			passed = end;
+			sectionsRead = passed;
+			batchAction.accept(batch);
+		}
+		return new CourseCatalog(new ArrayList<Course>(snapshot.subList(0, passed)));
+	}
+
+	/**
+	 * Reads the catalog from the file, passing the sections read on in batches.
+	 *
+	 * @param batchAction action to pass each batch of sections to, on this thread
+	 * @return the catalog of the sections read, all of them unless the load was cancelled
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	private CourseCatalog readFile(Consumer<ArrayList<Course>> batchAction) throws FileNotFoundException {
+		fileLength = new File(fileName).length();
+		ArrayList<Course> courses = new ArrayList<Course>();
+		ArrayList<Course> batch = new ArrayList<Course>(batchSize);
+		try (Stream<Course> stream = CourseRecordIO.streamCourseRecords(new CountingInputStream(new FileInputStream(fileName)))) {
+			Iterator<Course> it = stream.iterator();
+			while (!cancelled && it.hasNext()) {
+				batch.add(it.next());
+				if (batch.size() == batchSize) {
+					courses.addAll(batch);
+					sectionsRead = courses.size();
+					batchAction.accept(batch);
+					batch = new ArrayList<Course>(batchSize);
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			courses.addAll(batch);
+			sectionsRead = courses.size();
+			batchAction.accept(batch);
+		}
+		return new CourseCatalog(courses);
+	}
+
+	/**
+	 * Cancels the load.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Checks whether the load was cancelled.
+	 *
+	 * @return true if cancel() was called
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Returns how much of the file has been read.  Reading is buffered, so the
+	 * progress moves in steps of a few kilobytes.
+	 *
+	 * @return the percent of the file read, from 0 to 100
+	 */
+	public int getProgress() {
+		long length = fileLength;
+		if (length <= 0) {
+			return bytesRead > 0 ? 100 : 0;
+		}
+		return (int) Math.min(100, bytesRead * 100 / length);
+	}
+
+	/**
+	 * Returns the number of sections passed on so far.
+	 *
+	 * @return the sections read
+	 */
+	public int getSectionsRead() {
+		return sectionsRead;
+	}
+
+	/**
+	 * Counts the bytes read from the file into bytesRead.
+	 */
+	private final class CountingInputStream extends FilterInputStream {
+
+		/**
+		 * Constructs a CountingInputStream.
+		 *
+		 * @param in stream to count the bytes of
+		 */
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		/**
+		 * Reads a byte.
+		 *
+		 * @return the byte, or -1 at the end of the stream
+		 * @throws IOException if the byte cannot be read
+		 */
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				bytesRead++;
+			}
+			return b;
+		}
+
+		/**
+		 * Reads bytes into an array.
+		 *
+		 * @param b array to read into
+		 * @param off index of the first byte to read into
+		 * @param len most bytes to read
+		 * @return the number of bytes read, or -1 at the end of the stream
+		 * @throws IOException if the bytes cannot be read
+		 */
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				bytesRead += n;
+			}
+			return n;
+		}
+
+		/**
+		 * Skips bytes.
+		 *
+		 * @param n most bytes to skip
+		 * @return the number of bytes skipped
+		 * @throws IOException if the bytes cannot be skipped
+		 */
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			bytesRead += skipped;
+			return skipped;
+		}
+	}
+
+}
@@ -0,0 +1,438 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Finds the sections of a CourseCatalog by course name, title words, and instructor,
+ * fast enough to filter a catalog of any size as the user types.  Results are the
+ * positions of the matching sections in the catalog, in catalog order.
+ * <p>
+ * Each kind of key is kept in a prefix trie over the distinct keys, sorted.  The
+ * keys under any trie node are a run of the sorted keys, and the catalog positions
+ * of each key are stored one after another in key order, so all the sections
+ * matching a prefix are one run of positions, found with one walk down the trie.
+ * The words of a query are matched separately and their sections intersected as
+ * bit sets.  Names are matched with case and whitespace ignored, so "csc2" finds
+ * CSC 216; words are matched with case ignored.
+ * <p>
+ * A CatalogSearchIndex never changes after it is built, like the catalog, so any
+ * number of threads can search it at once.
+ *
+ * @author Brandon Wroblewski
+ */
+public final class CatalogSearchIndex {
+
+	/** Number of sections in the catalog */
+	private final int size;
+	/** Course names, without whitespace */
+	private final PrefixIndex names;
+	/** Words of the course names, so that "216" finds CSC 216 */
+	private final PrefixIndex nameWords;
+	/** Words of the titles */
+	private final PrefixIndex titleWords;
+	/** Instructor ids */
+	private final PrefixIndex instructors;
+
+	/**
+	 * Builds the index of a catalog.
+	 *
+	 * @param catalog the catalog to index
+	 */
+	public CatalogSearchIndex(CourseCatalog catalog) {
+		size = catalog.size();
+		PrefixIndex.Builder nameBuilder = new PrefixIndex.Builder();
+		PrefixIndex.Builder nameWordBuilder = new PrefixIndex.Builder();
+		PrefixIndex.Builder titleWordBuilder = new PrefixIndex.Builder();
+		PrefixIndex.Builder instructorBuilder = new PrefixIndex.Builder();
+		for (int i = 0; i < size; i++) {
+			Course course = catalog.get(i);
+			nameBuilder.add(normalizeName(course.getName()), i);
+			for (String word : words(course.getName())) {
+				nameWordBuilder.add(word, i);
+			}
+			for (String word : words(course.getTitle())) {
+				titleWordBuilder.add(word, i);
+			}
+			instructorBuilder.add(normalizeWord(course.getInstructorId()), i);
+		}
+		names = nameBuilder.build();
+		nameWords = nameWordBuilder.build();
+		titleWords = titleWordBuilder.build();
+		instructors = instructorBuilder.build();
+	}
+
+	/**
+	 * Finds the sections whose course name starts with a prefix, ignoring case and
+	 * whitespace.
+	 *
+	 * @param prefix start of the course name
+	 * @return positions of the matching sections in the catalog
+	 */
+	public int[] findByNamePrefix(String prefix) {
+		BitSet found = new BitSet(size);
+		names.addPrefixMatches(normalizeName(prefix), found);
+		return found.stream().toArray();
+	}
+
+	/**
+	 * Finds the sections whose title has a word starting with each of the given
+	 * words, ignoring case.  Every section matches a query with no words.
+	 *
+	 * @param query words to find in the title
+	 * @return positions of the matching sections in the catalog
+	 */
+	public int[] findByTitle(String query) {
+		BitSet found = allSections();
+		for (String word : words(query)) {
+			BitSet matches = new BitSet(size);
+			titleWords.addPrefixMatches(word, matches);
+			found.and(matches);
+		}
+		return found.stream().toArray();
+	}
+
+	/**
+	 * Finds the sections taught by an instructor, ignoring case.
+	 *
+	 * @param instructorId id of the instructor
+	 * @return positions of the matching sections in the catalog
+	 */
+	public int[] findByInstructor(String instructorId) {
+		BitSet found = new BitSet(size);
+		instructors.addMatches(normalizeWord(instructorId), found);
+		return found.stream().toArray();
+	}
+
+	/**
+	 * Finds the sections matching a search box query.  A section matches if its
+	 * course name starts with the whole query, or if each word of the query starts a
+	 * word of its name or title or its instructor id.  Every section matches a query
+	 * with no words.
+	 *
+	 * @param query the query
+	 * @return positions of the matching sections in the catalog
+	 * @throws IllegalArgumentException if the query is null
+	 */
+	public int[] search(String query) {
+		if (query == null) {
+			throw new IllegalArgumentException("Invalid query.");
+		}
+		ArrayList<String> queryWords = words(query);
+		if (queryWords.isEmpty()) {
+			return allSections().stream().toArray();
+		}
+		BitSet found = allSections();
+		for (String word : queryWords) {
+			BitSet matches = new BitSet(size);
+			names.addPrefixMatches(word, matches);
+			nameWords.addPrefixMatches(word, matches);
+			titleWords.addPrefixMatches(word, matches);
+			instructors.addPrefixMatches(word, matches);
+			found.and(matches);
+		}
+		// "CSC216" and "csc 2" are names even though they are not words of one
+		names.addPrefixMatches(normalizeName(query), found);
+		return found.stream().toArray();
+	}
+
+	/**
+	 * Returns the number of sections in the catalog indexed.
+	 *
+	 * @return the sections indexed
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a bit set with every section of the catalog set.
+	 *
+	 * @return a new bit set of all the sections
+	 */
+	private BitSet allSections() {
+		BitSet all = new BitSet(size);
+		all.set(0, size);
+		return all;
+	}
+
+	/**
+	 * Returns a course name as it is indexed, in upper case without whitespace.
+	 *
+	 * @param name the name
+	 * @return the normalized name
+	 */
+	private static String normalizeName(String name) {
+		StringBuilder normalized = new StringBuilder(name.length());
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				normalized.append(Character.toUpperCase(c));
+			}
+		}
+		return normalized.toString();
+	}
+
+	/**
+	 * Returns a word as it is indexed, in upper case.
+	 *
+	 * @param word the word
+	 * @return the normalized word
+	 */
+	private static String normalizeWord(String word) {
+		return word.toUpperCase(Locale.ROOT);
+	}
+
+	/**
+	 * Splits text into its words, the runs of letters and digits, in upper case.
+	 *
+	 * @param text the text
+	 * @return the words of the text, in order
+	 */
+	private static ArrayList<String> words(String text) {
+		ArrayList<String> words = new ArrayList<String>();
+		int start = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean inWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (inWord && start < 0) {
+				start = i;
+			} else if (!inWord && start >= 0) {
+				words.add(normalizeWord(text.substring(start, i)));
+				start = -1;
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Catalog positions keyed by strings, with a trie over the keys for prefix
+	 * lookups.
+	 */
+	private static final class PrefixIndex {
+
+		/** Catalog positions of every key, key after key in key order */
+		private final int[] positions;
+		/** Start of each key's positions, with the end of the last key at the end */
+		private final int[] starts;
+		/** Root of the trie over the sorted keys */
+		private final Node root;
+
+		/**
+		 * Constructs a PrefixIndex.
+		 *
+		 * @param keys the distinct keys, sorted
+		 * @param positions catalog positions of every key, in key order
+		 * @param starts start of each key's positions, and the end of the last
+		 */
+		private PrefixIndex(String[] keys, int[] positions, int[] starts) {
+			this.positions = positions;
+			this.starts = starts;
+			this.root = Node.build(keys, 0, keys.length, 0);
+		}
+
+		/**
+		 * Sets the sections with a key starting with a prefix.
+		 *
+		 * @param prefix start of the key
+		 * @param found bit set to set the sections in
+		 */
+		void addPrefixMatches(String prefix, BitSet found) {
+			Node node = root.find(prefix);
+			if (node != null) {
+				addPositions(node.firstKey, node.lastKey, found);
+			}
+		}
+
+		/**
+		 * Sets the sections with a key.
+		 *
+		 * @param key the key
+		 * @param found bit set to set the sections in
+		 */
+		void addMatches(String key, BitSet found) {
+			Node node = root.find(key);
+			if (node != null && node.isKey) {
+				// the node's own key sorts before the longer keys under it
+				addPositions(node.firstKey, node.firstKey + 1, found);
+			}
+		}
+
+		/**
+		 * Sets the positions of a run of keys.
+		 *
+		 * @param firstKey index of the first key
+		 * @param lastKey index after the last key
+		 * @param found bit set to set the sections in
+		 */
+		private void addPositions(int firstKey, int lastKey, BitSet found) {
+			for (int p = starts[firstKey]; p < starts[lastKey]; p++) {
+				found.set(positions[p]);
+			}
+		}
+
+		/**
+		 * A node of the trie, standing for the keys starting with the characters on
+		 * the path to it.  Those keys are a run of the sorted keys.
+		 */
+		private static final class Node {
+
+			/** Characters leading to the children, sorted */
+			private final char[] labels;
+			/** Children, matching labels */
+			private final Node[] children;
+			/** Index of the first key under this node */
+			private final int firstKey;
+			/** Index after the last key under this node */
+			private final int lastKey;
+			/** True if the path to this node is itself a key */
+			private final boolean isKey;
+
+			/**
+			 * Constructs a Node.
+			 *
+			 * @param labels characters leading to the children
+			 * @param children the children
+			 * @param firstKey index of the first key under the node
+			 * @param lastKey index after the last key under the node
+			 * @param isKey true if the path to the node is a key
+			 */
+			private Node(char[] labels, Node[] children, int firstKey, int lastKey, boolean isKey) {
+				this.labels = labels;
+				this.children = children;
+				this.firstKey = firstKey;
+				this.lastKey = lastKey;
+				this.isKey = isKey;
+			}
+
+			/**
+			 * Builds the trie over a run of sorted keys sharing their first depth
+			 * characters.
+			 *
+			 * @param keys the sorted keys
+			 * @param firstKey index of the first key of the run
+			 * @param lastKey index after the last key of the run
+			 * @param depth length of the prefix the keys share
+			 * @return the node for the run
+			 */
+			static Node build(String[] keys, int firstKey, int lastKey, int depth) {
+				int k = firstKey;
+				// a key as long as the prefix sorts first
+				boolean isKey = k < lastKey && keys[k].length() == depth;
+				if (isKey) {
+					k++;
+				}
+				ArrayList<Character> labels = new ArrayList<Character>();
+				ArrayList<Node> children = new ArrayList<Node>();
+				while (k < lastKey) {
+					char c = keys[k].charAt(depth);
+					int end = k + 1;
+					while (end < lastKey && keys[end].charAt(depth) == c) {
+						end++;
+					}
+					labels.add(c);
+					children.add(build(keys, k, end, depth + 1));
+					k = end;
+				}
+				char[] labelArray = new char[labels.size()];
+				for (int i = 0; i < labelArray.length; i++) {
+					labelArray[i] = labels.get(i);
+				}
+				return new Node(labelArray, children.toArray(new Node[children.size()]), firstKey, lastKey, isKey);
+			}
+
+			/**
+			 * Walks down from this node along the characters of a string.
+			 *
+			 * @param path the characters to follow
+			 * @return the node at the end of the path, or null if no key starts with it
+			 */
+			Node find(String path) {
+				Node node = this;
+				for (int i = 0; i < path.length() && node != null; i++) {
+					int child = Arrays.binarySearch(node.labels, path.charAt(i));
+					node = child < 0 ? null : node.children[child];
+				}
+				return node;
+			}
+		}
+
+		/**
+		 * Collects the keys of the sections, in catalog order, and builds the index.
+		 */
+		static final class Builder {
+
+			/** Positions of each key, in the order added */
+			private final HashMap<String, Postings> postings = new HashMap<String, Postings>();
+			/** Number of positions added */
+			private int total;
+
+			/**
+			 * Adds a key of a section.  Sections must be added in catalog order.
+			 *
+			 * @param key the key
+			 * @param position position of the section in the catalog
+			 */
+			void add(String key, int position) {
+				if (key.isEmpty()) {
+					return;
+				}
+				Postings keyPostings = postings.computeIfAbsent(key, k -> new Postings());
+				// a word twice in one title is indexed once
+				if (keyPostings.count == 0 || keyPostings.positions[keyPostings.count - 1] != position) {
+					keyPostings.add(position);
+					total++;
+				}
+			}
+
+			/**
+			 * Builds the index of the keys added.
+			 *
+			 * @return the index
+			 */
+			PrefixIndex build() {
+				String[] keys = postings.keySet().toArray(new String[postings.size()]);
+				Arrays.sort(keys);
+				int[] positions = new int[total];
+				int[] starts = new int[keys.length + 1];
+				int p = 0;
+				for (int k = 0; k < keys.length; k++) {
+					starts[k] = p;
+					Postings keyPostings = postings.get(keys[k]);
+					System.arraycopy(keyPostings.positions, 0, positions, p, keyPostings.count);
+					p += keyPostings.count;
+				}
+				starts[keys.length] = p;
+				return new PrefixIndex(keys, positions, starts);
+			}
+		}
+
+		/**
+		 * The catalog positions of one key, in a growing array.
+		 */
+		private static final class Postings {
+
+			/** The positions, in the order added */
+			private int[] positions = new int[4];
+			/** Number of positions */
+			private int count;
+
+			/**
+			 * Adds a position.
+			 *
+			 * @param position the position
+			 */
+			void add(int position) {
+				if (count == positions.length) {
+					positions = Arrays.copyOf(positions, count * 2);
+				}
+				positions[count++] = position;
+			}
+		}
+	}
+
+}
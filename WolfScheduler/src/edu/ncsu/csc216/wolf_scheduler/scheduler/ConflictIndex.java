@@ -0,0 +1,208 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Indexes a set of activities, no two of which conflict, by the days and times they
+ * meet so that the activities conflicting with a new one can be found without
+ * checking every activity.  Each day keeps the activities meeting on it sorted by
+ * start minute, in an int array of the start minutes beside an array of the
+ * activities, so a lookup is a binary search over primitive ints that allocates
+ * nothing.  Activities that do not conflict never overlap, even at their ends,
+ * so on each day at most one activity starting at or before a new activity can
+ * overlap it, and the others overlapping it are the ones starting during it.
+ * Finding the conflicts of an activity takes O(log N + k) time for N indexed
+ * activities and k conflicts.  Adding or removing an activity shifts the arrays of
+ * its days with one arraycopy each.  Arranged activities meet on no day and are
+ * never indexed or reported.  An activity's days and times must not change while it
+ * is indexed.
+ *
+ * @author Brandon Wroblewski
+ */
+public class ConflictIndex {
+
+	/** Activities meeting on each day, Sunday first */
+	private final DayMeetings[] days;
+
+	/**
+	 * Constructs an empty ConflictIndex.
+	 */
+	public ConflictIndex() {
+		days = new DayMeetings[Activity.DAYS_PER_WEEK];
+		for (int day = 0; day < Activity.DAYS_PER_WEEK; day++) {
+			days[day] = new DayMeetings();
+		}
+	}
+
+	/**
+	 * Adds an activity to the index.
+	 *
+	 * @param activity the activity to add
+	 * @throws IllegalArgumentException if the activity conflicts with an indexed activity
+	 */
+	public void add(Activity activity) {
+		if (hasConflict(activity)) {
+			throw new IllegalArgumentException("The activity conflicts with an indexed activity.");
+		}
+		int mask = activity.getMeetingDaysMask();
+		for (int day = 0; day < Activity.DAYS_PER_WEEK; day++) {
+			if ((mask & 1 << day) != 0) {
+				days[day].add(activity);
+			}
+		}
+	}
+
+	/**
+	 * Removes an activity from the index.
+	 *
+	 * @param activity the activity to remove
+	 * @return true if the activity was indexed, false otherwise
+	 */
+	public boolean remove(Activity activity) {
+		boolean removed = false;
+		int mask = activity.getMeetingDaysMask();
+		for (int day = 0; day < Activity.DAYS_PER_WEEK; day++) {
+			if ((mask & 1 << day) != 0 && days[day].remove(activity)) {
+				removed = true;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes every activity from the index.
+	 */
+	public void clear() {
+		for (DayMeetings day : days) {
+			day.clear();
+		}
+	}
+
+	/**
+	 * Checks whether an activity conflicts with any indexed activity.
+	 *
+	 * @param activity the activity to check
+	 * @return true if the activity conflicts with an indexed activity
+	 */
+	public boolean hasConflict(Activity activity) {
+		int mask = activity.getMeetingDaysMask();
+		for (int day = 0; day < Activity.DAYS_PER_WEEK; day++) {
+			if ((mask & 1 << day) != 0) {
+				DayMeetings meetings = days[day];
+				// the last activity starting at or before this one, then the first starting after it
+				int before = meetings.floor(activity.getStartMinute());
+				if (before >= 0 && meetings.activities[before].conflictsWith(activity)) {
+					return true;
+				}
+				if (before + 1 < meetings.size && meetings.activities[before + 1].conflictsWith(activity)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns every indexed activity that conflicts with an activity, each once, in
+	 * order of the first day and time they conflict.
+	 *
+	 * @param activity the activity to check
+	 * @return the conflicting activities, empty if there are none
+	 */
+	public ArrayList<Activity> getConflicts(Activity activity) {
+		ArrayList<Activity> conflicts = new ArrayList<Activity>();
+		int mask = activity.getMeetingDaysMask();
+		for (int day = 0; day < Activity.DAYS_PER_WEEK; day++) {
+			if ((mask & 1 << day) != 0) {
+				DayMeetings meetings = days[day];
+				// days already checked, where a conflicting activity would have been found first
+				int earlierDays = mask & ((1 << day) - 1);
+				int before = meetings.floor(activity.getStartMinute());
+				if (before >= 0 && meetings.activities[before].conflictsWith(activity)
+						&& (meetings.activities[before].getMeetingDaysMask() & earlierDays) == 0) {
+					conflicts.add(meetings.activities[before]);
+				}
+				// every activity starting during this one shares the day and overlaps it
+				for (int i = before + 1; i < meetings.size && meetings.starts[i] <= activity.getEndMinute(); i++) {
+					if ((meetings.activities[i].getMeetingDaysMask() & earlierDays) == 0) {
+						conflicts.add(meetings.activities[i]);
+					}
+				}
+			}
+		}
+		return conflicts;
+	}
+
+	/**
+	 * The activities meeting on one day, sorted by start minute.  No two start at the
+	 * same minute, since they would conflict.
+	 */
+	private static final class DayMeetings {
+
+		/** Start minutes of the activities, sorted, valid up to size */
+		private int[] starts = new int[8];
+		/** The activities, in the order of starts */
+		private Activity[] activities = new Activity[8];
+		/** Number of activities meeting on the day */
+		private int size;
+
+		/**
+		 * Returns the position of the last activity starting at or before a minute.
+		 *
+		 * @param minute the minute of the day
+		 * @return the position, or -1 if every activity starts after the minute
+		 */
+		int floor(int minute) {
+			int i = Arrays.binarySearch(starts, 0, size, minute);
+			// a miss returns minus the insertion point, minus one
+			return i >= 0 ? i : -i - 2;
+		}
+
+		/**
+		 * Adds an activity that conflicts with none on the day.
+		 *
+		 * @param activity the activity to add
+		 */
+		void add(Activity activity) {
+			if (size == starts.length) {
+				starts = Arrays.copyOf(starts, size * 2);
+				activities = Arrays.copyOf(activities, size * 2);
+			}
+			int i = floor(activity.getStartMinute()) + 1;
+			System.arraycopy(starts, i, starts, i + 1, size - i);
+			System.arraycopy(activities, i, activities, i + 1, size - i);
+			starts[i] = activity.getStartMinute();
+			activities[i] = activity;
+			size++;
+		}
+
+		/**
+		 * Removes an activity, but not one that is only equal to it.
+		 *
+		 * @param activity the activity to remove
+		 * @return true if the activity met on the day
+		 */
+		boolean remove(Activity activity) {
+			int i = Arrays.binarySearch(starts, 0, size, activity.getStartMinute());
+			if (i < 0 || activities[i] != activity) {
+				return false;
+			}
+			System.arraycopy(starts, i + 1, starts, i, size - i - 1);
+			System.arraycopy(activities, i + 1, activities, i, size - i - 1);
+			activities[--size] = null;
+			return true;
+		}
+
+		/**
+		 * Removes every activity.
+		 */
+		void clear() {
+			Arrays.fill(activities, 0, size, null);
+			size = 0;
+		}
+	}
+
+}
@@ -0,0 +1,331 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Records which sections of a catalog conflict with each other, using the same
+ * rules as Activity.conflictsWith().  Each section has a row of bits, one for every
+ * section in the catalog, so the sections conflicting with any section can be
+ * looked up without comparing times.
+ * <p>
+ * To build the matrix, the sections meeting each day are sorted by start time into
+ * primitive arrays.  A section's row is then filled from the days it meets: the
+ * sections starting during it all overlap it, and of the sections starting before
+ * it, only those starting less than the day's longest meeting earlier can still be
+ * meeting when it starts.  Every row is filled by the task that owns it, directly
+ * into its BitSet, so the catalog is split into ranges of rows filled in parallel
+ * on a ForkJoinPool with no locking and no list of conflicting pairs.  A
+ * ConflictMatrix never changes once built.
+ *
+ * @author Brandon Wroblewski
+ */
+public class ConflictMatrix {
+
+	/** Sections of the catalog, in catalog order */
+	private final ArrayList<Course> sections;
+	/** Conflicting sections of each section, by index in sections */
+	private final BitSet[] rows;
+	/** Index of each section keyed on name and section */
+	private final HashMap<String, Integer> indexes;
+
+	/**
+	 * Constructs a ConflictMatrix from its rows.
+	 *
+	 * @param sections sections of the catalog
+	 * @param rows conflicting sections of each section
+	 */
+	private ConflictMatrix(ArrayList<Course> sections, BitSet[] rows) {
+		this.sections = sections;
+		this.rows = rows;
+		this.indexes = new HashMap<String, Integer>(sections.size() * 2);
+		for (int i = 0; i < sections.size(); i++) {
+			// the first section wins, as in the catalog
+			indexes.putIfAbsent(key(sections.get(i).getName(), sections.get(i).getSection()), i);
+		}
+	}
+
+	/**
+	 * Builds the conflict matrix of a catalog, filling the rows on the common pool.
+	 *
+	 * @param catalog sections of the catalog
+	 * @return the conflict matrix of the catalog
+	 */
+	public static ConflictMatrix build(ArrayList<Course> catalog) {
+		return build(catalog, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Builds the conflict matrix of a catalog, filling the rows on the given pool.
+	 *
+	 * @param catalog sections of the catalog
+	 * @param pool pool to fill the rows on
+	 * @return the conflict matrix of the catalog
+	 */
+	public static ConflictMatrix build(ArrayList<Course> catalog, ForkJoinPool pool) {
+		ArrayList<Course> sections = new ArrayList<Course>(catalog);
+		DayMeetings[] days = new DayMeetings[Activity.DAYS_PER_WEEK];
+		for (int day = 0; day < days.length; day++) {
+			days[day] = new DayMeetings(sections, day);
+		}
+		BitSet[] rows = new BitSet[sections.size()];
+		pool.invoke(new FillRows(sections, days, rows, 0, rows.length));
+		return new ConflictMatrix(sections, rows);
+	}
+
+	/**
+	 * Returns the number of sections in the matrix.
+	 *
+	 * @return the number of sections
+	 */
+	public int size() {
+		return sections.size();
+	}
+
+	/**
+	 * Returns a section of the catalog.
+	 *
+	 * @param index index of the section in the catalog
+	 * @return the section
+	 * @throws IndexOutOfBoundsException if index is not a section
+	 */
+	public Course getSection(int index) {
+		return sections.get(index);
+	}
+
+	/**
+	 * Returns the index of a section in the catalog.
+	 *
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the index of the section, or -1 if it is not in the catalog
+	 */
+	public int indexOf(String name, String section) {
+		Integer index = indexes.get(key(name, section));
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Checks whether two sections conflict.
+	 *
+	 * @param index1 index of the first section
+	 * @param index2 index of the second section
+	 * @return true if the sections conflict
+	 * @throws IndexOutOfBoundsException if either index is not a section
+	 */
+	public boolean conflicts(int index1, int index2) {
+		if (index2 < 0 || index2 >= rows.length) {
+			throw new IndexOutOfBoundsException("Index: " + index2);
+		}
+		return rows[index1].get(index2);
+	}
+
+	/**
+	 * Returns the indexes of the sections that conflict with a section.  A timed
+	 * section conflicts with itself.
+	 *
+	 * @param index index of the section
+	 * @return a copy of the section's row, with a bit set for each conflicting section
+	 * @throws IndexOutOfBoundsException if index is not a section
+	 */
+	public BitSet getConflicts(int index) {
+		return (BitSet) rows[index].clone();
+	}
+
+	/**
+	 * Returns the number of sections that conflict with a section.
+	 *
+	 * @param index index of the section
+	 * @return the number of conflicting sections, including the section itself if it is timed
+	 * @throws IndexOutOfBoundsException if index is not a section
+	 */
+	public int getConflictCount(int index) {
+		return rows[index].cardinality();
+	}
+
+	/**
+	 * Returns the sections that conflict with a section, other than the section itself.
+	 *
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the conflicting sections in catalog order, empty if the section is not in the catalog
+	 */
+	public ArrayList<Course> getConflictingSections(String name, String section) {
+		ArrayList<Course> conflicting = new ArrayList<Course>();
+		int index = indexOf(name, section);
+		if (index >= 0) {
+			BitSet row = rows[index];
+			for (int i = row.nextSetBit(0); i >= 0; i = row.nextSetBit(i + 1)) {
+				if (i != index) {
+					conflicting.add(sections.get(i));
+				}
+			}
+		}
+		return conflicting;
+	}
+
+	/**
+	 * Returns the key used for a section in the index.  A comma can never appear in
+	 * a valid course name, so the key is unambiguous.
+	 *
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the index key for the name and section
+	 */
+	private static String key(String name, String section) {
+		return name + "," + section;
+	}
+
+	/**
+	 * The sections meeting on one day, sorted by start minute into primitive arrays.
+	 */
+	private static final class DayMeetings {
+
+		/** Start minutes, sorted */
+		private final int[] starts;
+		/** End minutes, in the order of starts */
+		private final int[] ends;
+		/** Indexes of the sections, in the order of starts */
+		private final int[] indexes;
+		/** Longest meeting of the day in minutes */
+		private final int longest;
+
+		/**
+		 * Sorts the sections meeting on a day.
+		 *
+		 * @param sections sections of the catalog
+		 * @param day day to sort, 0 for Sunday
+		 */
+		DayMeetings(ArrayList<Course> sections, int day) {
+			// pack the start time with the index so that one primitive sort orders both
+			long[] meetings = new long[sections.size()];
+			int count = 0;
+			for (int i = 0; i < sections.size(); i++) {
+				Course c = sections.get(i);
+				if ((c.getMeetingDaysMask() & 1 << day) != 0) {
+					meetings[count++] = (long) c.getStartMinute() << Integer.SIZE | i;
+				}
+			}
+			Arrays.parallelSort(meetings, 0, count);
+			starts = new int[count];
+			ends = new int[count];
+			indexes = new int[count];
+			int max = 0;
+			for (int m = 0; m < count; m++) {
+				Course c = sections.get((int) meetings[m]);
+				starts[m] = c.getStartMinute();
+				ends[m] = c.getEndMinute();
+				indexes[m] = (int) meetings[m];
+				max = Math.max(max, ends[m] - starts[m]);
+			}
+			longest = max;
+		}
+
+		/**
+		 * Sets the bits of the sections meeting on the day that overlap a meeting.
+		 *
+		 * @param start start minute of the meeting
+		 * @param end end minute of the meeting
+		 * @param row row to set the bits in
+		 */
+		void addOverlapping(int start, int end, BitSet row) {
+			// no section starting before start - longest is still meeting at start
+			for (int m = firstStartingAtOrAfter(start - longest); m < starts.length && starts[m] <= end; m++) {
+				if (ends[m] >= start) {
+					row.set(indexes[m]);
+				}
+			}
+		}
+
+		/**
+		 * Returns the position of the first section starting at or after a minute.
+		 *
+		 * @param minute the minute
+		 * @return the position, or the number of sections if none starts that late
+		 */
+		private int firstStartingAtOrAfter(int minute) {
+			int low = 0;
+			int high = starts.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (starts[mid] < minute) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+
+	/**
+	 * Fills the rows of a range of sections, splitting the range among the pool's
+	 * threads.  Each row is only written by the task filling it.
+	 */
+	private static final class FillRows extends RecursiveAction {
+
+		/** ID used for serialization */
+		private static final long serialVersionUID = 1L;
+		/** Most rows filled by one task without splitting */
+		private static final int ROWS_PER_TASK = 512;
+		/** Sections of the catalog */
+		private final ArrayList<Course> sections;
+		/** Sections meeting on each day */
+		private final DayMeetings[] days;
+		/** Rows of the matrix */
+		private final BitSet[] rows;
+		/** First row to fill */
+		private final int from;
+		/** Row after the last to fill */
+		private final int to;
+
+		/**
+		 * Constructs a FillRows.
+		 *
+		 * @param sections sections of the catalog
+		 * @param days sections meeting on each day
+		 * @param rows rows of the matrix
+		 * @param from first row to fill
+		 * @param to row after the last to fill
+		 */
+		FillRows(ArrayList<Course> sections, DayMeetings[] days, BitSet[] rows, int from, int to) {
+			this.sections = sections;
+			this.days = days;
+			this.rows = rows;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * Fills the rows, or splits them in half.
+		 */
+		@Override
+		protected void compute() {
+			if (to - from > ROWS_PER_TASK) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new FillRows(sections, days, rows, from, mid), new FillRows(sections, days, rows, mid, to));
+				return;
+			}
+			for (int i = from; i < to; i++) {
+				Course c = sections.get(i);
+				BitSet row = new BitSet();
+				int mask = c.getMeetingDaysMask();
+				for (int day = 0; day < days.length; day++) {
+					// a timed section overlaps itself, so it is in its own row
+					if ((mask & 1 << day) != 0) {
+						days[day].addOverlapping(c.getStartMinute(), c.getEndMinute(), row);
+					}
+				}
+				rows[i] = row;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,238 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseSnapshotIO;
+import edu.ncsu.csc216.wolf_scheduler.io.MappedCourseRecordIO;
+
+/**
+ * An unchanging catalog of course sections that any number of WolfScheduler
+ * sessions, on any number of threads, can share.  The sections are read once, kept
+ * in catalog order, and indexed by name and section.  A CourseCatalog never changes
+ * after it is constructed, so it needs no locking.  The Courses in it are keyed,
+ * displayed, and searched by their fields, so the catalog takes them over and
+ * freezes them; setting any of their fields afterwards throws an
+ * IllegalStateException.  The seat counts and waitlists of the sections are kept
+ * here instead, updated atomically, so that every session sharing the catalog
+ * takes seats from the same counts and waits in the same line, while sessions on
+ * another catalog count their own seats.
+ *
+ * @author Brandon Wroblewski
+ */
+public final class CourseCatalog {
+
+	/** Sections of the catalog, in catalog order */
+	private final ArrayList<Course> courses;
+	/** Index of the sections keyed on course name and section */
+	private final HashMap<String, Course> index;
+	/** Short display arrays of the sections, made when first asked for */
+	private volatile String[][] displayRows;
+	/** Search index of the sections, built when first asked for */
+	private volatile CatalogSearchIndex searchIndex;
+	/** Waitlists of the sections, made when first asked for, keyed like the index */
+	private final ConcurrentHashMap<String, SectionWaitlist> waitlists = new ConcurrentHashMap<String, SectionWaitlist>();
+	/** Seat counts of the sections, made when first asked for, keyed like the index */
+	private final ConcurrentHashMap<String, SectionSeats> seats = new ConcurrentHashMap<String, SectionSeats>();
+
+	/**
+	 * Constructs a CourseCatalog holding the given sections.  Only the first section
+	 * with each name and section is indexed, as when course records are read.  The
+	 * sections are frozen, so they cannot be changed through any other reference.
+	 *
+	 * @param courses sections of the catalog; the list is copied and the sections frozen
+	 */
+	public CourseCatalog(ArrayList<Course> courses) {
+		this.courses = new ArrayList<Course>(courses);
+		this.index = new HashMap<String, Course>(courses.size() * 2);
+		for (Course course : this.courses) {
+			course.freeze();
+			index.putIfAbsent(key(course.getName(), course.getSection()), course);
+		}
+	}
+
+	/**
+	 * Reads a catalog from a course records file.
+	 *
+	 * @param fileName file to read Course records from
+	 * @param parallelLoad true to read the course records on all cores
+	 * @return the catalog
+	 * @throws java.io.FileNotFoundException if the file cannot be found or read
+	 * @throws IOException if the file cannot be mapped for a parallel load
+	 */
+	public static CourseCatalog load(String fileName, boolean parallelLoad) throws IOException {
+		return load(fileName, parallelLoad, null);
+	}
+
+	/**
+	 * Reads a catalog from a course records file, using a snapshot kept in a cache
+	 * directory when one was made from the current file.  Loading from a snapshot
+	 * neither parses the records nor checks the sections again; a missing, stale, or
+	 * damaged snapshot falls back to the file and is rewritten for the next load.
+	 *
+	 * @param fileName file to read Course records from
+	 * @param parallelLoad true to read the course records on all cores
+	 * @param snapshotDirectory directory to keep the snapshot in, such as
+	 * CourseSnapshotIO.USER_SNAPSHOT_DIRECTORY, or null to always read the file
+	 * @return the catalog
+	 * @throws java.io.FileNotFoundException if the file cannot be found or read
+	 * @throws IOException if the file cannot be mapped for a parallel load
+	 */
+	public static CourseCatalog load(String fileName, boolean parallelLoad, String snapshotDirectory) throws IOException {
+		if (snapshotDirectory != null) {
+			String snapshot = CourseSnapshotIO.getSnapshotFileName(snapshotDirectory, fileName);
+			return new CourseCatalog(CourseSnapshotIO.readCourseRecords(fileName, snapshot, parallelLoad));
+		}
+		if (parallelLoad) {
+			return new CourseCatalog(MappedCourseRecordIO.readCourseRecordsParallel(fileName));
+		}
+		return new CourseCatalog(CourseRecordIO.readCourseRecords(fileName));
+	}
+
+	/**
+	 * Returns the section with the given name and section.
+	 *
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the frozen section, or null if it is not in the catalog
+	 */
+	public Course getCourse(String name, String section) {
+		return index.get(key(name, section));
+	}
+
+	/**
+	 * Returns the waitlist of a section in the catalog.
+	 *
+	 * @param course the section, as returned by getCourse()
+	 * @return the section's waitlist
+	 */
+	SectionWaitlist getWaitlist(Course course) {
+		return waitlists.computeIfAbsent(key(course.getName(), course.getSection()),
+				k -> new SectionWaitlist(course, getSeats(course)));
+	}
+
+	/**
+	 * Returns the seat counts of a section in the catalog.
+	 *
+	 * @param course the section, as returned by getCourse()
+	 * @return the section's seat counts
+	 */
+	public SectionSeats getSeats(Course course) {
+		return seats.computeIfAbsent(key(course.getName(), course.getSection()), k -> new SectionSeats());
+	}
+
+	/**
+	 * Returns the section at a position in the catalog.
+	 *
+	 * @param i position of the section
+	 * @return the frozen section
+	 * @throws IndexOutOfBoundsException if i is not a position in the catalog
+	 */
+	public Course get(int i) {
+		return courses.get(i);
+	}
+
+	/**
+	 * Returns the number of sections in the catalog.
+	 *
+	 * @return the number of sections
+	 */
+	public int size() {
+		return courses.size();
+	}
+
+	/**
+	 * Returns the sections of the catalog in catalog order.
+	 *
+	 * @return a new list of the frozen sections
+	 */
+	public ArrayList<Course> getCourses() {
+		return new ArrayList<Course>(courses);
+	}
+
+	/**
+	 * Returns the catalog as a 2D String array with the name, section, title, and
+	 * meeting string of each section.  The rows are made once and copied for each
+	 * call, so the catalog is never formatted again.  The rows are kept for the life
+	 * of the catalog, so displays that only show the rows in view should use
+	 * getCourseCatalogRow() instead and never call this.
+	 *
+	 * @return a new 2D String array of the catalog
+	 */
+	public String[][] getCourseCatalog() {
+		String[][] rows = getDisplayRows();
+		String[][] catalog = new String[rows.length][];
+		for (int i = 0; i < catalog.length; i++) {
+			catalog[i] = rows[i].clone();
+		}
+		return catalog;
+	}
+
+	/**
+	 * Returns the name, section, title, and meeting string of one section, for
+	 * displays that only show the rows in view.  Nothing is kept for the row.
+	 *
+	 * @param i position of the section
+	 * @return a new short display array of the section
+	 * @throws IndexOutOfBoundsException if i is not a position in the catalog
+	 */
+	public String[] getCourseCatalogRow(int i) {
+		return courses.get(i).getShortDisplayArray();
+	}
+
+	/**
+	 * Returns the search index of the catalog, building it the first time.  Building
+	 * the index of a large catalog takes a while, so it is built only once, and a
+	 * display can ask for it in the background before the user first searches.
+	 *
+	 * @return the search index
+	 */
+	public CatalogSearchIndex getSearchIndex() {
+		CatalogSearchIndex index = searchIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = searchIndex;
+				if (index == null) {
+					index = new CatalogSearchIndex(this);
+					searchIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the short display arrays of the sections, making them the first time.
+	 * Threads racing to make them make the same rows, so whichever is kept is fine.
+	 *
+	 * @return the display rows, which must not be changed
+	 */
+	private String[][] getDisplayRows() {
+		String[][] rows = displayRows;
+		if (rows == null) {
+			rows = new String[courses.size()][];
+			for (int i = 0; i < rows.length; i++) {
+				rows[i] = courses.get(i).getShortDisplayArray();
+			}
+			displayRows = rows;
+		}
+		return rows;
+	}
+
+	/**
+	 * Returns the key used for a section in the index.  A comma can never appear in
+	 * a valid course name, so the key is unambiguous.
+	 *
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the index key for the name and section
+	 */
+	private static String key(String name, String section) {
+		return name + "," + section;
+	}
+
+}
@@ -0,0 +1,271 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Enumerates the schedules of a ScheduleGenerator on every thread of a ForkJoinPool.
+ * The search tree is split into tasks at the sections of each course: a task that
+ * finds other threads idle forks a task for each section it can choose, and
+ * otherwise searches its subtree itself, so idle threads steal the large subtrees
+ * near the root and busy threads keep their work local.
+ * <p>
+ * A run can be limited to a number of schedules and cancelled from any thread.
+ * Progress counters can be read while a run is going.  Schedules are found in no
+ * particular order.  An enumerator runs once.
+ *
+ * @author Brandon Wroblewski
+ */
+public class ParallelScheduleEnumerator {
+
+	/** Queued tasks per thread above which tasks stop forking */
+	private static final int SURPLUS_TASKS = 2;
+	/** Nodes a task visits between updates of the shared node counter */
+	private static final int NODE_BATCH = 1024;
+
+	/** Generator whose schedules are enumerated */
+	private final ScheduleGenerator generator;
+	/** True once a run has started */
+	private final AtomicBoolean started = new AtomicBoolean();
+	/** Set to stop the search, when cancelled or when the limit is reached */
+	private volatile boolean stopped;
+	/** True if the search was cancelled rather than stopped by its limit */
+	private volatile boolean cancelled;
+	/** Most schedules to pass on */
+	private long limit;
+	/** Schedules claimed so far, which may pass the limit by the number of threads */
+	private final AtomicLong claimed = new AtomicLong();
+	/** Schedules passed on */
+	private final LongAdder schedulesFound = new LongAdder();
+	/** Nodes of the search tree visited */
+	private final LongAdder nodesVisited = new LongAdder();
+	/** Tasks forked */
+	private final LongAdder tasksForked = new LongAdder();
+
+	/**
+	 * Constructs a ParallelScheduleEnumerator for a generator.
+	 *
+	 * @param generator the generator whose schedules are enumerated
+	 */
+	public ParallelScheduleEnumerator(ScheduleGenerator generator) {
+		this.generator = generator;
+	}
+
+	/**
+	 * Passes schedules to an action until every schedule has been found, the limit is
+	 * reached, or the run is cancelled.  The action is called from several threads at
+	 * once and must be thread safe.
+	 *
+	 * @param pool pool to search on
+	 * @param limit most schedules to pass on
+	 * @param action action to pass each schedule to
+	 * @return the number of schedules passed on
+	 * @throws IllegalArgumentException if limit is negative
+	 * @throws IllegalStateException if the enumerator has already run
+	 */
+	public long forEach(ForkJoinPool pool, long limit, Consumer<ArrayList<Course>> action) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Invalid limit.");
+		}
+		if (!started.compareAndSet(false, true)) {
+			throw new IllegalStateException("The enumerator has already run.");
+		}
+		this.limit = limit;
+		long[] blocked = generator.newBlockedMask();
+		if (limit > 0 && !stopped && generator.hasChoices(blocked, 0)) {
+			pool.invoke(new SearchTask(action, 0, new int[generator.getCourseCount()], blocked));
+		}
+		return schedulesFound.sum();
+	}
+
+	/**
+	 * Collects schedules until every schedule has been found, the limit is reached,
+	 * or the run is cancelled.
+	 *
+	 * @param pool pool to search on
+	 * @param limit most schedules to collect
+	 * @return the schedules found
+	 * @throws IllegalArgumentException if limit is negative
+	 * @throws IllegalStateException if the enumerator has already run
+	 */
+	public ArrayList<ArrayList<Course>> collect(ForkJoinPool pool, int limit) {
+		ConcurrentLinkedQueue<ArrayList<Course>> schedules = new ConcurrentLinkedQueue<ArrayList<Course>>();
+		forEach(pool, limit, schedules::add);
+		return new ArrayList<ArrayList<Course>>(schedules);
+	}
+
+	/**
+	 * Cancels the run.  Tasks stop at the next node they visit, and schedules already
+	 * being passed on are still passed on.  Cancelling before a run starts makes it
+	 * find nothing.
+	 */
+	public void cancel() {
+		cancelled = true;
+		stopped = true;
+	}
+
+	/**
+	 * Checks whether the run was cancelled.
+	 *
+	 * @return true if cancel() was called
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Returns the number of schedules passed on so far.
+	 *
+	 * @return the schedules found
+	 */
+	public long getSchedulesFound() {
+		return schedulesFound.sum();
+	}
+
+	/**
+	 * Returns the number of nodes of the search tree visited so far, each a section
+	 * tried for a course.  The count lags behind by up to a thousand nodes per thread
+	 * while the run is going.
+	 *
+	 * @return the nodes visited
+	 */
+	public long getNodesVisited() {
+		return nodesVisited.sum();
+	}
+
+	/**
+	 * Returns the number of tasks forked so far.
+	 *
+	 * @return the tasks forked
+	 */
+	public long getTasksForked() {
+		return tasksForked.sum();
+	}
+
+	/**
+	 * Passes on a schedule if the limit has not been reached.
+	 *
+	 * @param action action to pass the schedule to
+	 * @param chosen section chosen for each course in search order
+	 */
+	private void found(Consumer<ArrayList<Course>> action, int[] chosen) {
+		long count = claimed.incrementAndGet();
+		if (count > limit) {
+			stopped = true;
+			return;
+		}
+		if (count == limit) {
+			stopped = true;
+		}
+		action.accept(generator.toSchedule(chosen));
+		schedulesFound.increment();
+	}
+
+	/**
+	 * Searches the subtree below the sections chosen for the first courses.
+	 */
+	private final class SearchTask extends RecursiveAction {
+
+		/** ID used for serialization */
+		private static final long serialVersionUID = 1L;
+		/** Action to pass each schedule to */
+		private final transient Consumer<ArrayList<Course>> action;
+		/** Position in search order of the next course to choose a section for */
+		private final int depth;
+		/** Sections chosen for the courses before depth, owned by this task */
+		private final int[] chosen;
+		/** Sections blocked by the sections chosen, owned by this task */
+		private final long[] blocked;
+		/** Nodes visited and not yet added to nodesVisited */
+		private int nodes;
+
+		/**
+		 * Constructs a SearchTask.
+		 *
+		 * @param action action to pass each schedule to
+		 * @param depth position in search order of the next course
+		 * @param chosen sections chosen for the courses before depth
+		 * @param blocked sections blocked by the sections chosen
+		 */
+		SearchTask(Consumer<ArrayList<Course>> action, int depth, int[] chosen, long[] blocked) {
+			this.action = action;
+			this.depth = depth;
+			this.chosen = chosen;
+			this.blocked = blocked;
+		}
+
+		/**
+		 * Searches the subtree, forking the sections of the next course while other
+		 * threads are idle.
+		 */
+		@Override
+		protected void compute() {
+			int courses = chosen.length;
+			if (depth == courses) {
+				found(action, chosen);
+				return;
+			}
+			ArrayList<SearchTask> forked = new ArrayList<SearchTask>();
+			// masks for each depth below this one, reused by the sequential search
+			long[][] masks = null;
+			for (int c = generator.getGroupStart(depth); c < generator.getGroupStart(depth + 1) && !stopped; c++) {
+				nodes++;
+				long[] next = new long[blocked.length];
+				if (!generator.choose(blocked, c, depth, next)) {
+					continue;
+				}
+				if (depth + 1 < courses && getSurplusQueuedTaskCount() < SURPLUS_TASKS) {
+					int[] childChosen = chosen.clone();
+					childChosen[depth] = c;
+					SearchTask child = new SearchTask(action, depth + 1, childChosen, next);
+					child.fork();
+					forked.add(child);
+					tasksForked.increment();
+				} else {
+					if (masks == null) {
+						masks = new long[courses + 1][blocked.length];
+					}
+					chosen[depth] = c;
+					masks[depth + 1] = next;
+					search(depth + 1, masks);
+				}
+			}
+			nodesVisited.add(nodes);
+			for (SearchTask child : forked) {
+				child.join();
+			}
+		}
+
+		/**
+		 * Searches a subtree on this thread.
+		 *
+		 * @param g position in search order of the next course
+		 * @param masks sections blocked before choosing a section for each course
+		 */
+		private void search(int g, long[][] masks) {
+			if (g == chosen.length) {
+				found(action, chosen);
+				return;
+			}
+			for (int c = generator.getGroupStart(g); c < generator.getGroupStart(g + 1) && !stopped; c++) {
+				if (++nodes == NODE_BATCH) {
+					nodesVisited.add(nodes);
+					nodes = 0;
+				}
+				if (generator.choose(masks[g], c, g, masks[g + 1])) {
+					chosen[g] = c;
+					search(g + 1, masks);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,399 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Generates every conflict-free schedule that takes one section of each of a list
+ * of courses from a catalog.  Schedules are found by backtracking over the courses,
+ * those with the fewest sections first.  The sections that conflict with each
+ * section are kept as a bit mask, so choosing a section blocks all of its conflicts
+ * at once, and a choice is undone as soon as it leaves a later course with no
+ * section that can still be chosen.
+ * <p>
+ * Schedules are generated lazily, one for each call to next() on an iterator, so
+ * the first few schedules of a search with millions of them are found quickly.
+ * Each schedule lists its sections in the order the courses were given.
+ *
+ * @author Brandon Wroblewski
+ */
+public class ScheduleGenerator implements Iterable<ArrayList<Course>> {
+
+	/** Bits in a word of a section mask */
+	private static final int WORD_BITS = Long.SIZE;
+
+	/** Sections that can be chosen, grouped by course in search order */
+	private final Course[] sections;
+	/** Index of the first section of each course in sections, and the number of sections at the end */
+	private final int[] groupStart;
+	/** Position of each course, in search order, in the list of courses given */
+	private final int[] groupPosition;
+	/** Sections of each course as a mask */
+	private final long[][] groupMasks;
+	/** Sections conflicting with each section as a mask */
+	private final long[][] conflicts;
+	/** Sections that conflict with or duplicate an activity that must be kept */
+	private final long[] excluded;
+
+	/**
+	 * Constructs a ScheduleGenerator for the given courses.
+	 *
+	 * @param catalog sections to choose from
+	 * @param courseNames names of the courses to take one section of, each once
+	 * @throws IllegalArgumentException if a course name is null or given more than once
+	 */
+	public ScheduleGenerator(ArrayList<Course> catalog, ArrayList<String> courseNames) {
+		this(catalog, courseNames, new ArrayList<Activity>());
+	}
+
+	/**
+	 * Constructs a ScheduleGenerator for the given courses that only generates schedules
+	 * that can be added to the given activities, such as a student's current schedule.
+	 *
+	 * @param catalog sections to choose from
+	 * @param courseNames names of the courses to take one section of, each once
+	 * @param fixedActivities activities every schedule must not conflict with or duplicate
+	 * @throws IllegalArgumentException if a course name is null or given more than once
+	 */
+	public ScheduleGenerator(ArrayList<Course> catalog, ArrayList<String> courseNames, ArrayList<Activity> fixedActivities) {
+		// collect the sections of each course, in the order the courses were given
+		LinkedHashMap<String, ArrayList<Course>> courses = new LinkedHashMap<String, ArrayList<Course>>();
+		for (String name : courseNames) {
+			if (name == null || courses.put(name, new ArrayList<Course>()) != null) {
+				throw new IllegalArgumentException("Invalid course list.");
+			}
+		}
+		for (Course c : catalog) {
+			ArrayList<Course> group = courses.get(c.getName());
+			if (group != null) {
+				group.add(c);
+			}
+		}
+		ArrayList<ArrayList<Course>> groups = new ArrayList<ArrayList<Course>>(courses.values());
+
+		// search the courses with the fewest sections first, keeping the given order for ties
+		Integer[] order = new Integer[groups.size()];
+		for (int g = 0; g < order.length; g++) {
+			order[g] = g;
+		}
+		Arrays.sort(order, (a, b) -> Integer.compare(groups.get(a).size(), groups.get(b).size()));
+
+		int count = 0;
+		for (ArrayList<Course> group : groups) {
+			count += group.size();
+		}
+		sections = new Course[count];
+		groupStart = new int[order.length + 1];
+		groupPosition = new int[order.length];
+		int s = 0;
+		for (int g = 0; g < order.length; g++) {
+			groupStart[g] = s;
+			groupPosition[g] = order[g];
+			for (Course c : groups.get(order[g])) {
+				sections[s++] = c;
+			}
+		}
+		groupStart[order.length] = s;
+
+		int words = (count + WORD_BITS - 1) / WORD_BITS;
+		groupMasks = new long[order.length][words];
+		for (int g = 0; g < order.length; g++) {
+			for (int i = groupStart[g]; i < groupStart[g + 1]; i++) {
+				set(groupMasks[g], i);
+			}
+		}
+		conflicts = new long[count][words];
+		for (int i = 0; i < count; i++) {
+			for (int j = i + 1; j < count; j++) {
+				if (sections[i].conflictsWith(sections[j])) {
+					set(conflicts[i], j);
+					set(conflicts[j], i);
+				}
+			}
+		}
+		excluded = new long[words];
+		for (int i = 0; i < count; i++) {
+			for (Activity fixed : fixedActivities) {
+				if (fixed.isDuplicate(sections[i]) || fixed.conflictsWith(sections[i])) {
+					set(excluded, i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns an iterator over the conflict-free schedules.  Each iterator searches
+	 * independently, so several threads can each use their own.
+	 *
+	 * @return an iterator over the schedules
+	 */
+	@Override
+	public Iterator<ArrayList<Course>> iterator() {
+		return new ScheduleIterator();
+	}
+
+	/**
+	 * Returns a sequential stream of the conflict-free schedules, generated as the
+	 * stream asks for them.
+	 *
+	 * @return a stream of the schedules
+	 */
+	public Stream<ArrayList<Course>> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+				Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Returns the first schedules found, up to a limit.
+	 *
+	 * @param limit most schedules to return
+	 * @return the first schedules, at most limit of them
+	 * @throws IllegalArgumentException if limit is negative
+	 */
+	public ArrayList<ArrayList<Course>> generate(int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Invalid limit.");
+		}
+		ArrayList<ArrayList<Course>> schedules = new ArrayList<ArrayList<Course>>();
+		Iterator<ArrayList<Course>> it = iterator();
+		while (schedules.size() < limit && it.hasNext()) {
+			schedules.add(it.next());
+		}
+		return schedules;
+	}
+
+	/**
+	 * Counts the conflict-free schedules without building them.
+	 *
+	 * @return the number of schedules
+	 */
+	public long count() {
+		ScheduleIterator it = new ScheduleIterator();
+		long count = 0;
+		while (it.advance()) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of courses a schedule takes a section of.
+	 *
+	 * @return the number of courses
+	 */
+	int getCourseCount() {
+		return groupPosition.length;
+	}
+
+	/**
+	 * Returns the index of the first section of a course in search order.  The
+	 * sections of course g are the indexes from getGroupStart(g) up to but not
+	 * including getGroupStart(g + 1).
+	 *
+	 * @param group position of the course in search order, up to getCourseCount()
+	 * @return index of its first section
+	 */
+	int getGroupStart(int group) {
+		return groupStart[group];
+	}
+
+	/**
+	 * Returns a new mask of the sections blocked before any section is chosen.
+	 *
+	 * @return a copy of the excluded sections
+	 */
+	long[] newBlockedMask() {
+		return excluded.clone();
+	}
+
+	/**
+	 * Checks whether a section can be chosen with a mask of blocked sections, and if
+	 * so writes the sections blocked after choosing it, checking that every course
+	 * after group still has a section to choose.
+	 *
+	 * @param blocked sections blocked before choosing the section
+	 * @param section index of the section to choose
+	 * @param group position in search order of the section's course
+	 * @param result sections blocked after choosing the section
+	 * @return true if the section can be chosen and the search can go on
+	 */
+	boolean choose(long[] blocked, int section, int group, long[] result) {
+		if (isSet(blocked, section)) {
+			return false;
+		}
+		long[] row = conflicts[section];
+		for (int w = 0; w < result.length; w++) {
+			result[w] = blocked[w] | row[w];
+		}
+		return hasChoices(result, group + 1);
+	}
+
+	/**
+	 * Checks that every course from a position in search order on has a section
+	 * that is not blocked.
+	 *
+	 * @param blocked sections blocked
+	 * @param fromGroup first course to check, in search order
+	 * @return true if every course checked has a section to choose
+	 */
+	boolean hasChoices(long[] blocked, int fromGroup) {
+		for (int g = fromGroup; g < groupPosition.length; g++) {
+			long[] mask = groupMasks[g];
+			boolean open = false;
+			// only the words holding this course's sections
+			int last = groupStart[g + 1] == groupStart[g] ? -1 : (groupStart[g + 1] - 1) / WORD_BITS;
+			for (int w = groupStart[g] / WORD_BITS; w <= last && !open; w++) {
+				open = (mask[w] & ~blocked[w]) != 0;
+			}
+			if (!open) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Builds a schedule from the sections chosen for each course in search order.
+	 *
+	 * @param chosen index of the section chosen for each course, in search order
+	 * @return the schedule, in the order the courses were given
+	 */
+	ArrayList<Course> toSchedule(int[] chosen) {
+		Course[] schedule = new Course[chosen.length];
+		for (int g = 0; g < chosen.length; g++) {
+			schedule[groupPosition[g]] = sections[chosen[g]];
+		}
+		ArrayList<Course> list = new ArrayList<Course>(chosen.length);
+		for (Course c : schedule) {
+			list.add(c);
+		}
+		return list;
+	}
+
+	/**
+	 * Sets a bit in a mask.
+	 *
+	 * @param mask the mask
+	 * @param bit the bit to set
+	 */
+	private static void set(long[] mask, int bit) {
+		mask[bit / WORD_BITS] |= 1L << bit;
+	}
+
+	/**
+	 * Checks a bit in a mask.
+	 *
+	 * @param mask the mask
+	 * @param bit the bit to check
+	 * @return true if the bit is set
+	 */
+	private static boolean isSet(long[] mask, int bit) {
+		return (mask[bit / WORD_BITS] & 1L << bit) != 0;
+	}
+
+	/**
+	 * Walks the search tree depth first, keeping the sections chosen and blocked at
+	 * each depth so that the search can stop after each schedule and carry on later.
+	 */
+	private class ScheduleIterator implements Iterator<ArrayList<Course>> {
+
+		/** Section chosen for each course in search order */
+		private final int[] chosen = new int[groupPosition.length];
+		/** Next section to try for each course in search order */
+		private final int[] next = new int[groupPosition.length];
+		/** Sections blocked before choosing a section for each course, and after the last */
+		private final long[][] blocked = new long[groupPosition.length + 1][];
+		/** Number of courses with a section chosen, or -1 once the search is over */
+		private int depth;
+		/** True if chosen holds a schedule that next() has not returned */
+		private boolean ready;
+
+		/**
+		 * Constructs a ScheduleIterator at the start of the search.
+		 */
+		ScheduleIterator() {
+			for (int g = 0; g < blocked.length; g++) {
+				blocked[g] = newBlockedMask();
+			}
+			if (hasChoices(blocked[0], 0)) {
+				depth = 0;
+				if (next.length > 0) {
+					next[0] = groupStart[0];
+				}
+			} else {
+				depth = -1;
+			}
+		}
+
+		/**
+		 * Checks whether there is another schedule.
+		 *
+		 * @return true if there is another schedule
+		 */
+		@Override
+		public boolean hasNext() {
+			if (!ready) {
+				ready = advance();
+			}
+			return ready;
+		}
+
+		/**
+		 * Returns the next schedule.
+		 *
+		 * @return the next schedule
+		 * @throws NoSuchElementException if there are no more schedules
+		 */
+		@Override
+		public ArrayList<Course> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			ready = false;
+			return toSchedule(chosen);
+		}
+
+		/**
+		 * Moves the search to the next schedule.
+		 *
+		 * @return true if chosen now holds the next schedule, false if there are no more
+		 */
+		boolean advance() {
+			while (depth >= 0) {
+				if (depth == chosen.length) {
+					// carry on from the last course next time
+					depth--;
+					return true;
+				}
+				int g = depth;
+				int c = next[g];
+				while (c < groupStart[g + 1] && !choose(blocked[g], c, g, blocked[g + 1])) {
+					c++;
+				}
+				if (c < groupStart[g + 1]) {
+					chosen[g] = c;
+					next[g] = c + 1;
+					depth++;
+					if (depth < chosen.length) {
+						next[depth] = groupStart[depth];
+					}
+				} else {
+					// every section of this course has been tried, back up
+					depth--;
+				}
+			}
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Listens for changes to a WolfScheduler's schedule, so that a display can update
+ * only the rows that changed.  Events are sent on the thread that made the change,
+ * while the schedule is locked, so a listener sees them in the order the changes
+ * were made.  A listener must return quickly, for example by handing the event to
+ * another thread, and must not wait for another thread that uses the schedule.
+ * Each method does nothing unless overridden.
+ *
+ * @author Brandon Wroblewski
+ */
+public interface ScheduleListener {
+
+	/**
+	 * Called after an activity is added to the schedule.
+	 *
+	 * @param index index of the activity in the schedule
+	 * @param activity the activity added
+	 */
+	default void activityAdded(int index, Activity activity) {
+		// no action by default
+	}
+
+	/**
+	 * Called after an activity is removed from the schedule.  Activities after it
+	 * move down one index.
+	 *
+	 * @param index index the activity had in the schedule
+	 * @param activity the activity removed
+	 */
+	default void activityRemoved(int index, Activity activity) {
+		// no action by default
+	}
+
+	/**
+	 * Called after the schedule is reset.
+	 *
+	 * @param removedCount number of activities the schedule had
+	 */
+	default void scheduleReset(int removedCount) {
+		// no action by default
+	}
+
+	/**
+	 * Called after the schedule title is set.
+	 *
+	 * @param title the new title
+	 */
+	default void titleChanged(String title) {
+		// no action by default
+	}
+
+}
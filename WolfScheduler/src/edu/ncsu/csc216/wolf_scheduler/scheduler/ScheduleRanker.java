@@ -0,0 +1,151 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.PriorityQueue;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Keeps the best K of the schedules offered to it, as scored by a ScheduleScorer.
+ * The schedules kept are in a priority queue with the worst of them at the head, so
+ * a new schedule only has to beat the head to be kept, and no more than K schedules
+ * are ever held.  Schedules with equal scores keep the order they were offered in.
+ * A ranker can be offered schedules from several threads at once, for example by
+ * passing offer as the action of a ParallelScheduleEnumerator.
+ *
+ * @param <T> the type of activity in the schedules
+ * @author Brandon Wroblewski
+ */
+public class ScheduleRanker<T extends Activity> {
+
+	/** Scorer of the schedules */
+	private final ScheduleScorer scorer;
+	/** Most schedules to keep */
+	private final int capacity;
+	/** Schedules kept, worst at the head */
+	private final PriorityQueue<Ranked<T>> best;
+	/** Number of schedules offered */
+	private long offered;
+
+	/**
+	 * Constructs a ScheduleRanker.
+	 *
+	 * @param scorer scorer of the schedules
+	 * @param capacity most schedules to keep
+	 * @throws IllegalArgumentException if capacity is less than 1
+	 */
+	public ScheduleRanker(ScheduleScorer scorer, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Invalid capacity.");
+		}
+		this.scorer = scorer;
+		this.capacity = capacity;
+		this.best = new PriorityQueue<Ranked<T>>(capacity);
+	}
+
+	/**
+	 * Offers a schedule.  The schedule is scored before the ranker is locked, so
+	 * threads offering schedules only wait for each other to update the queue.
+	 *
+	 * @param schedule the schedule
+	 * @return true if the schedule is among the best so far and was kept
+	 */
+	public boolean offer(ArrayList<T> schedule) {
+		double score = scorer.score(schedule);
+		synchronized (this) {
+			Ranked<T> ranked = new Ranked<T>(schedule, score, offered++);
+			if (best.size() < capacity) {
+				best.add(ranked);
+				return true;
+			}
+			if (ranked.compareTo(best.peek()) <= 0) {
+				return false;
+			}
+			best.poll();
+			best.add(ranked);
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the schedules kept, best first.
+	 *
+	 * @return the best schedules offered so far
+	 */
+	public synchronized ArrayList<ArrayList<T>> getTopSchedules() {
+		ArrayList<Ranked<T>> ranked = new ArrayList<Ranked<T>>(best);
+		Collections.sort(ranked, Collections.reverseOrder());
+		ArrayList<ArrayList<T>> schedules = new ArrayList<ArrayList<T>>(ranked.size());
+		for (Ranked<T> r : ranked) {
+			schedules.add(r.schedule);
+		}
+		return schedules;
+	}
+
+	/**
+	 * Returns the scores of the schedules kept, best first, matching getTopSchedules().
+	 *
+	 * @return the best scores so far
+	 */
+	public synchronized double[] getTopScores() {
+		ArrayList<Ranked<T>> ranked = new ArrayList<Ranked<T>>(best);
+		Collections.sort(ranked, Collections.reverseOrder());
+		double[] scores = new double[ranked.size()];
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = ranked.get(i).score;
+		}
+		return scores;
+	}
+
+	/**
+	 * Returns the number of schedules offered.
+	 *
+	 * @return the schedules offered
+	 */
+	public synchronized long getOfferedCount() {
+		return offered;
+	}
+
+	/**
+	 * A schedule with its score, ordered from worst to best.
+	 *
+	 * @param <T> the type of activity in the schedule
+	 */
+	private static final class Ranked<T> implements Comparable<Ranked<T>> {
+
+		/** The schedule */
+		private final ArrayList<T> schedule;
+		/** Score of the schedule */
+		private final double score;
+		/** Position of the schedule among those offered */
+		private final long sequence;
+
+		/**
+		 * Constructs a Ranked schedule.
+		 *
+		 * @param schedule the schedule
+		 * @param score score of the schedule
+		 * @param sequence position of the schedule among those offered
+		 */
+		Ranked(ArrayList<T> schedule, double score, long sequence) {
+			this.schedule = schedule;
+			this.score = score;
+			this.sequence = sequence;
+		}
+
+		/**
+		 * Compares schedules by score, and a schedule offered later is worse than one
+		 * offered earlier with the same score.
+		 *
+		 * @param other the schedule to compare with
+		 * @return a negative number if this schedule is worse, positive if it is better
+		 */
+		@Override
+		public int compareTo(Ranked<T> other) {
+			int byScore = Double.compare(score, other.score);
+			return byScore != 0 ? byScore : Long.compare(other.sequence, sequence);
+		}
+	}
+
+}
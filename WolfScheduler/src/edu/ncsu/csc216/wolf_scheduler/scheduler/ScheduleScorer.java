@@ -0,0 +1,141 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Scores a schedule so that schedules can be ranked.  A higher score is a better
+ * schedule.  Scorers can be weighted and added together to rank by several things
+ * at once, for example
+ * <pre>
+ * ScheduleScorer.compactness().plus(ScheduleScorer.fewestDays().times(60))
+ * </pre>
+ * ranks schedules by their gaps, with each day on campus counting as an hour of gaps.
+ * Scorers are called from several threads at once when schedules are ranked in
+ * parallel, so they must be thread safe.
+ *
+ * @author Brandon Wroblewski
+ */
+@FunctionalInterface
+public interface ScheduleScorer {
+
+	/**
+	 * Scores a schedule.
+	 *
+	 * @param schedule the activities of the schedule
+	 * @return the score, higher for a better schedule
+	 */
+	double score(ArrayList<? extends Activity> schedule);
+
+	/**
+	 * Returns a scorer that multiplies this scorer's scores by a weight.  A negative
+	 * weight ranks by the opposite of this scorer.
+	 *
+	 * @param weight the weight
+	 * @return the weighted scorer
+	 */
+	default ScheduleScorer times(double weight) {
+		return schedule -> weight * score(schedule);
+	}
+
+	/**
+	 * Returns a scorer that adds this scorer's scores to another scorer's scores.
+	 *
+	 * @param other the scorer to add
+	 * @return the combined scorer
+	 */
+	default ScheduleScorer plus(ScheduleScorer other) {
+		return schedule -> score(schedule) + other.score(schedule);
+	}
+
+	/**
+	 * Returns a scorer preferring compact schedules.  The score is minus the minutes
+	 * between activities on the same day, summed over the week.
+	 *
+	 * @return the compactness scorer
+	 */
+	static ScheduleScorer compactness() {
+		return schedule -> {
+			long[] meetings = new long[schedule.size()];
+			int gaps = 0;
+			for (int day = 0; day < Activity.DAYS_PER_WEEK; day++) {
+				// the activities meeting today, sorted by start minute
+				int count = 0;
+				for (Activity a : schedule) {
+					if ((a.getMeetingDaysMask() & 1 << day) != 0) {
+						meetings[count++] = (long) a.getStartMinute() << Integer.SIZE | a.getEndMinute();
+					}
+				}
+				Arrays.sort(meetings, 0, count);
+				// the latest end so far, in case activities overlap
+				int end = count == 0 ? 0 : (int) meetings[0];
+				for (int m = 1; m < count; m++) {
+					gaps += Math.max(0, (int) (meetings[m] >>> Integer.SIZE) - end);
+					end = Math.max(end, (int) meetings[m]);
+				}
+			}
+			return -gaps;
+		};
+	}
+
+	/**
+	 * Returns a scorer preferring schedules that start late.  The score is the
+	 * earliest start of any activity in minutes after midnight, or a full day for a
+	 * schedule with no timed activities.  Use times(-1) to prefer early starts.
+	 *
+	 * @return the start time scorer
+	 */
+	static ScheduleScorer latestStart() {
+		return schedule -> {
+			int earliest = Activity.MINUTES_PER_DAY;
+			for (Activity a : schedule) {
+				if (a.getMeetingDaysMask() != 0) {
+					earliest = Math.min(earliest, a.getStartMinute());
+				}
+			}
+			return earliest;
+		};
+	}
+
+	/**
+	 * Returns a scorer preferring schedules with fewer days on campus.  The score is
+	 * minus the number of days any activity meets.
+	 *
+	 * @return the campus days scorer
+	 */
+	static ScheduleScorer fewestDays() {
+		return schedule -> {
+			int days = 0;
+			for (Activity a : schedule) {
+				days |= a.getMeetingDaysMask();
+			}
+			return -Integer.bitCount(days);
+		};
+	}
+
+	/**
+	 * Returns a scorer preferring courses taught by the given instructors.  The score
+	 * is the number of courses taught by one of them.
+	 *
+	 * @param instructorIds ids of the preferred instructors
+	 * @return the instructor scorer
+	 */
+	static ScheduleScorer preferredInstructors(Collection<String> instructorIds) {
+		HashSet<String> preferred = new HashSet<String>(instructorIds);
+		return schedule -> {
+			int count = 0;
+			for (Activity a : schedule) {
+				if (a instanceof Course && preferred.contains(((Course) a).getInstructorId())) {
+					count++;
+				}
+			}
+			return count;
+		};
+	}
+
+}
@@ -0,0 +1,138 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The seats taken in one section of a CourseCatalog and the students waiting for
+ * one.  The counts are shared by every session scheduling the section from the
+ * catalog, so they are updated with compare-and-set rather than under a lock, and
+ * a seat is never taken past the capacity.  Each catalog keeps its own counts, so
+ * the Course the counts are for stays a plain value.
+ *
+ * @author Brandon Wroblewski
+ */
+public final class SectionSeats {
+
+	/** capacity of a section with no limit on its seats */
+	public static final int UNLIMITED_CAPACITY = Integer.MAX_VALUE;
+	/** Most seats that can be taken in the section */
+	private volatile int capacity = UNLIMITED_CAPACITY;
+	/** Seats taken in the section */
+	private final AtomicInteger enrolled = new AtomicInteger();
+	/** Students waiting for a seat in the section */
+	private final AtomicInteger waitlisted = new AtomicInteger();
+
+	/**
+	 * Returns the most seats that can be taken in the section.
+	 *
+	 * @return the capacity, UNLIMITED_CAPACITY if there is no limit
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Sets the most seats that can be taken in the section.  Lowering the capacity
+	 * below the seats already taken does not free any of them; no more seats can be
+	 * taken until enough are released.
+	 *
+	 * @param capacity the capacity to set, UNLIMITED_CAPACITY for no limit
+	 * @throws IllegalArgumentException if capacity is negative
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Invalid capacity.");
+		}
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Returns the number of seats taken in the section.
+	 *
+	 * @return the seats taken
+	 */
+	public int getEnrolled() {
+		return enrolled.get();
+	}
+
+	/**
+	 * Returns the number of seats that can still be taken in the section.
+	 *
+	 * @return the open seats, never negative
+	 */
+	public int getOpenSeats() {
+		return Math.max(0, capacity - enrolled.get());
+	}
+
+	/**
+	 * Takes a seat in the section if one is open.  Many threads can take seats at
+	 * once; each tries to move the count up by one from the value it read, and reads
+	 * it again if another thread got there first.
+	 *
+	 * @return true if a seat was taken, false if the section is full
+	 */
+	public boolean tryEnroll() {
+		while (true) {
+			int taken = enrolled.get();
+			if (taken >= capacity) {
+				return false;
+			}
+			if (enrolled.compareAndSet(taken, taken + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Releases a seat taken with tryEnroll().
+	 *
+	 * @throws IllegalStateException if no seats are taken
+	 */
+	public void releaseSeat() {
+		while (true) {
+			int taken = enrolled.get();
+			if (taken == 0) {
+				throw new IllegalStateException("No seats are taken.");
+			}
+			if (enrolled.compareAndSet(taken, taken - 1)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of students waiting for a seat in the section.
+	 *
+	 * @return the students waiting
+	 */
+	public int getWaitlisted() {
+		return waitlisted.get();
+	}
+
+	/**
+	 * Counts a student joining the waitlist of the section.
+	 *
+	 * @return the number of students waiting, including this one
+	 */
+	public int joinWaitlist() {
+		return waitlisted.incrementAndGet();
+	}
+
+	/**
+	 * Counts a student leaving the waitlist of the section.
+	 *
+	 * @throws IllegalStateException if no students are waiting
+	 */
+	public void leaveWaitlist() {
+		while (true) {
+			int waiting = waitlisted.get();
+			if (waiting == 0) {
+				throw new IllegalStateException("No students are waiting.");
+			}
+			if (waitlisted.compareAndSet(waiting, waiting - 1)) {
+				return;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,147 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The sessions waiting for a seat in a section, first come first served.  The
+ * sessions are kept in a lock-free deque, so joining and leaving never wait.
+ * <p>
+ * Seats are given out by promote(), which any thread that frees a seat calls.  Only
+ * one thread drains the waitlist at a time: a thread that finds another draining
+ * leaves the seats it freed to that thread, so a burst of drops is promoted in one
+ * pass instead of each drop racing the others for the same waiting sessions.  The
+ * drainer takes a seat, then offers it to the session at the head until one can
+ * add the section without a duplicate or conflict; sessions that cannot are dropped
+ * from the waitlist.  A seat that no session takes is released.
+ *
+ * @author Brandon Wroblewski
+ */
+final class SectionWaitlist {
+
+	/** Section waited for */
+	private final Course course;
+	/** Seat counts of the section */
+	private final SectionSeats seats;
+	/** Sessions waiting, in the order they joined */
+	private final ConcurrentLinkedDeque<WolfScheduler> waiting = new ConcurrentLinkedDeque<WolfScheduler>();
+	/** True while a thread is draining the waitlist */
+	private final AtomicBoolean draining = new AtomicBoolean();
+	/** Sessions given a seat */
+	private final LongAdder promoted = new LongAdder();
+
+	/**
+	 * Constructs an empty SectionWaitlist.
+	 *
+	 * @param course section waited for
+	 * @param seats seat counts of the section in its catalog
+	 */
+	SectionWaitlist(Course course, SectionSeats seats) {
+		this.course = course;
+		this.seats = seats;
+	}
+
+	/**
+	 * Returns the section waited for.
+	 *
+	 * @return the section
+	 */
+	Course getCourse() {
+		return course;
+	}
+
+	/**
+	 * Adds a session to the end of the waitlist.  The section's waitlist count goes
+	 * up first, so sessions adding the section directly see it has a waitlist.
+	 *
+	 * @param session the session to add
+	 */
+	void join(WolfScheduler session) {
+		seats.joinWaitlist();
+		waiting.addLast(session);
+	}
+
+	/**
+	 * Removes a session from the waitlist.
+	 *
+	 * @param session the session to remove
+	 * @return true if the session was waiting
+	 */
+	boolean leave(WolfScheduler session) {
+		if (waiting.removeFirstOccurrence(session)) {
+			seats.leaveWaitlist();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether a session is waiting.
+	 *
+	 * @param session the session
+	 * @return true if the session is on the waitlist
+	 */
+	boolean contains(WolfScheduler session) {
+		return waiting.contains(session);
+	}
+
+	/**
+	 * Returns the number of sessions waiting.
+	 *
+	 * @return the sessions waiting
+	 */
+	int size() {
+		return waiting.size();
+	}
+
+	/**
+	 * Returns the number of sessions given a seat from the waitlist.
+	 *
+	 * @return the sessions promoted
+	 */
+	long getPromotedCount() {
+		return promoted.sum();
+	}
+
+	/**
+	 * Gives open seats to waiting sessions, unless another thread is already doing so.
+	 * Must not be called while holding a session's lock, since promoting locks the
+	 * sessions given a seat.
+	 */
+	void promote() {
+		// check again after draining, in case a seat was freed just as the drainer finished
+		while (!waiting.isEmpty() && seats.getOpenSeats() > 0 && draining.compareAndSet(false, true)) {
+			try {
+				while (!waiting.isEmpty() && seats.tryEnroll()) {
+					if (!offerSeat()) {
+						seats.releaseSeat();
+					}
+				}
+			} finally {
+				draining.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Offers a seat already taken to the waiting sessions in order until one adds the
+	 * section.
+	 *
+	 * @return true if a session took the seat, false if none could
+	 */
+	private boolean offerSeat() {
+		WolfScheduler session;
+		while ((session = waiting.pollFirst()) != null) {
+			seats.leaveWaitlist();
+			if (session.acceptWaitlistSeat(course)) {
+				promoted.increment();
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
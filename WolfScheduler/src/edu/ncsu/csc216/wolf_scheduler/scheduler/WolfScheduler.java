@@ -3,38 +3,95 @@ package edu.ncsu.csc216.wolf_scheduler.scheduler;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 import edu.ncsu.csc216.wolf_scheduler.course.Event;
 import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
-import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
-import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
 
 /**
  * The WolfScheduler class represents a scheduler which can be used to
  * manage courses, schedules, and catalogs.
+ * <p>
+ * A WolfScheduler can be used from several threads at once.  The schedule, its
+ * display rows, and its indexes are changed in place under a lock, so an edit
+ * never copies the schedule: checking an add takes O(log N + k) time for N
+ * scheduled activities and k conflicts, the add appends, and a remove only shifts
+ * the entries after it.  Readers take a copy under the same lock when they ask for
+ * one, so only building the display arrays or exporting costs O(N), and every copy
+ * a reader gets is free of duplicates and conflicts.
+ * Adding a course takes a seat in its section, and removing it releases the seat.
+ * Seats are counted in the shared catalog without a lock, so sessions on other
+ * threads only meet when they take the last seats of the same section.  A session
+ * can wait for a seat in a full section on its waitlist, and is given the seat
+ * when another session drops it, if the section still fits its schedule.
+ * ScheduleListeners are told of each change, so displays need not read the whole
+ * schedule again.
  * 
  * @author Brandon Wroblewski
  */
 public class WolfScheduler {
 
 	/**
-	 * Creates a ArrayList instance which represents a collection of Course
-	 * objects that represent available courses.
+	 * The catalog of available courses, which is never changed and can be
+	 * shared with other WolfScheduler sessions.
 	 */
-	private ArrayList<Course> catalog;
+	private final CourseCatalog catalog;
 	
 	/**
 	 * Creates a ArrayList instance which represents a collection of Course
-	 * objects selected by user.
+	 * objects selected by user.  Guarded by scheduleLock.
 	 */
 	private ArrayList<Activity> schedule;
 	
+	/**
+	 * Index of the schedule by meeting days and times so that conflicts with a
+	 * new activity can be found without checking the whole schedule.  Guarded by
+	 * scheduleLock.
+	 */
+	private ConflictIndex conflictIndex;
+	
+	/**
+	 * Duplicate key of every scheduled activity, with the number of activities
+	 * added before it, so duplicates are found without checking the whole schedule
+	 * and the order of scheduled activities can still be compared.  Guarded by
+	 * scheduleLock.
+	 */
+	private final HashMap<String, Long> scheduledKeys = new HashMap<String, Long>();
+	
+	/**
+	 * Number of activities added so far, guarded by scheduleLock
+	 */
+	private long addCount;
+	
+	/**
+	 * Short display arrays of the schedule, in schedule order, so a change only
+	 * makes the row of the activity added.  Guarded by scheduleLock.
+	 */
+	private ArrayList<String[]> scheduledRows;
+	
+	/**
+	 * Long display arrays of the schedule, kept like scheduledRows
+	 */
+	private ArrayList<String[]> fullScheduledRows;
+	
+	/**
+	 * Listeners told of changes to the schedule
+	 */
+	private final CopyOnWriteArrayList<ScheduleListener> listeners = new CopyOnWriteArrayList<ScheduleListener>();
+	
+	/**
+	 * Lock held while changing the schedule or using the conflict index
+	 */
+	private final ReentrantLock scheduleLock = new ReentrantLock();
+	
 	/**
 	 * Creates a string instance that represents the title
 	 */
-	private String title;
+	private volatile String title;
 
 	/**
 	 * Constructs a WolfScheduler object.
@@ -44,24 +101,98 @@ public class WolfScheduler {
 	 * for not being able to find the file or file has invalid format
 	 */
 	public WolfScheduler(String filename) {
+		this(filename, false);
+	}
+
+	/**
+	 * Constructs a WolfScheduler object, optionally reading the course records on all
+	 * cores with MappedCourseRecordIO.readCourseRecordsParallel().  Both ways of reading
+	 * give the same catalog.
+	 *
+	 * @param filename The filename for the course records to be read.
+	 * @param parallelLoad true to read the course records in parallel
+	 * @throws IllegalArgumentException if the course records cannot be read
+	 * for not being able to find the file or file has invalid format
+	 */
+	public WolfScheduler(String filename, boolean parallelLoad) {
+		this(filename, parallelLoad, null);
+	}
+
+	/**
+	 * Constructs a WolfScheduler object that loads the catalog from a snapshot kept
+	 * in snapshotDirectory when one was made from the current file, which skips
+	 * parsing and checking the course records.  The snapshot is made on the first
+	 * load and remade whenever the file changes.
+	 *
+	 * @param filename The filename for the course records to be read.
+	 * @param parallelLoad true to read the course records in parallel when there is no snapshot
+	 * @param snapshotDirectory directory to keep the catalog snapshot in, or null for none
+	 * @throws IllegalArgumentException if the course records cannot be read
+	 * for not being able to find the file or file has invalid format
+	 */
+	public WolfScheduler(String filename, boolean parallelLoad, String snapshotDirectory) {
+		this(loadCatalog(filename, parallelLoad, snapshotDirectory));
+	}
+
+	/**
+	 * Constructs a WolfScheduler session with an empty schedule over a shared catalog.
+	 * Sessions only hold their own schedule and title, so many sessions can share one
+	 * catalog without reading the course records again.
+	 *
+	 * @param catalog the catalog of available courses
+	 * @throws IllegalArgumentException if the catalog is null
+	 */
+	public WolfScheduler(CourseCatalog catalog) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		this.catalog = catalog;
+
 		// Creates empty ArrayList to initialize schedule field
 		schedule = new ArrayList<>();
+		conflictIndex = new ConflictIndex();
+		scheduledRows = new ArrayList<String[]>();
+		fullScheduledRows = new ArrayList<String[]>();
 
 		// Set the title field to the default value
 		title = "My Schedule";
+	}
 
+	/**
+	 * Reads the catalog for a new WolfScheduler.
+	 *
+	 * @param filename The filename for the course records to be read.
+	 * @param parallelLoad true to read the course records in parallel
+	 * @param snapshotDirectory directory to keep the catalog snapshot in, or null for none
+	 * @return the catalog, empty if the file cannot be found
+	 * @throws IllegalArgumentException if the course records cannot be read
+	 */
+	private static CourseCatalog loadCatalog(String filename, boolean parallelLoad, String snapshotDirectory) {
 		// Try to add Course objects from the input file to the catalog field
 		try {
-			catalog = CourseRecordIO.readCourseRecords(filename);
+			return CourseCatalog.load(filename, parallelLoad, snapshotDirectory);
 		} catch (IllegalArgumentException e) {
 			// If it fails it will catch it and throw a new IllegalArgumentException
 			throw new IllegalArgumentException("Cannot find file.");
 		} catch (FileNotFoundException e) {
 			// prints the stacktrace
 			e.printStackTrace();
+			return new CourseCatalog(new ArrayList<Course>());
+		} catch (IOException e) {
+			// The file exists but could not be mapped
+			throw new IllegalArgumentException("Cannot find file.");
 		}
 	}
 
+	/**
+	 * Returns the catalog of available courses, to share with other sessions.
+	 *
+	 * @return the catalog
+	 */
+	public CourseCatalog getCatalog() {
+		return catalog;
+	}
+
 	/**
      * returns the course catalog as a 2D String array.
      * String Array stores name, section, title, and meeting string info
@@ -70,19 +201,46 @@ public class WolfScheduler {
      */
 	public String[][] getCourseCatalog() {
 		// check if there is no courses in catalog
-		if (catalog.isEmpty()) {
+		if (catalog.size() == 0) {
 			// Return an empty 2D string if it's empty
 			return new String[0][0];
 		}
-		// Create a 2D String array to store course information
-		String[][] courseCatalogArray = new String[catalog.size()][4];
-		// Fills the array with course information
-		for (int i = 0; i < catalog.size(); i++) {
-			Course course = catalog.get(i);
-			courseCatalogArray[i] = course.getShortDisplayArray();
-		}
 		// returns catalog array
-		return courseCatalogArray;
+		return catalog.getCourseCatalog();
+	}
+
+	/**
+	 * Returns the number of courses in the catalog.
+	 *
+	 * @return the number of courses in the catalog
+	 */
+	public int getCatalogSize() {
+		return catalog.size();
+	}
+
+	/**
+	 * Returns one row of the course catalog, with the same name, section, title, and
+	 * meeting string as getCourseCatalog(), without building the whole catalog.
+	 *
+	 * @param idx index of the course in the catalog
+	 * @return a String array of the course
+	 * @throws IndexOutOfBoundsException if idx is not an index in the catalog
+	 */
+	public String[] getCatalogRow(int idx) {
+		return catalog.getCourseCatalogRow(idx);
+	}
+
+	/**
+	 * Searches the course catalog for the courses matching a search box query.  A
+	 * course matches if its name starts with the query, or if each word of the query
+	 * starts a word of its name or title or its instructor id, ignoring case.
+	 *
+	 * @param query the query
+	 * @return indexes in the catalog of the matching courses, in catalog order
+	 * @throws IllegalArgumentException if the query is null
+	 */
+	public int[] searchCatalog(String query) {
+		return catalog.getSearchIndex().search(query);
 	}
 
 	 /**
@@ -92,20 +250,12 @@ public class WolfScheduler {
      * @return A 2D String array representing the scheduled courses.
      */
 	public String[][] getScheduledActivities() {
-		// Check if there are no courses in the schedule
-		if (schedule.isEmpty()) {
-			// Return an empty 2D String array if it's empty
-			return new String[0][0];
-		}
-		// Create a 2D String array to store course information
-		String[][] scheduledCoursesArray = new String[schedule.size()][4];
-		// Fills the array with scheduled course information
-		for (int i = 0; i < schedule.size(); i++) {
-			Activity course = schedule.get(i);
-			scheduledCoursesArray[i] = course.getShortDisplayArray();
+		scheduleLock.lock();
+		try {
+			return copyRows(scheduledRows);
+		} finally {
+			scheduleLock.unlock();
 		}
-		// returns scheduled courses array
-		return scheduledCoursesArray;
 	}
 
 	/**
@@ -116,43 +266,60 @@ public class WolfScheduler {
      * @return A 2D String array representing the full scheduled courses.
      */
 	public String[][] getFullScheduledActivities() {
+		scheduleLock.lock();
+		try {
+			return copyRows(fullScheduledRows);
+		} finally {
+			scheduleLock.unlock();
+		}
+	}
+
+	/**
+	 * Copies display rows so the caller can change them.  The schedule lock must be
+	 * held.
+	 *
+	 * @param rows the rows to copy
+	 * @return a new 2D String array of the rows
+	 */
+	private static String[][] copyRows(ArrayList<String[]> rows) {
 		// Check if there are no courses in the schedule
-		if (schedule.isEmpty()) {
+		if (rows.isEmpty()) {
 			// Return an empty 2D String array if it's empty
 			return new String[0][0];
 		}
-		// Create a 2D String array to store course information
-		String[][] fullScheduledCoursesArray = new String[schedule.size()][7];
-		// Fills the array with scheduled course information
-		for (int i = 0; i < schedule.size(); i++) {
-			Activity course = schedule.get(i);
-			fullScheduledCoursesArray[i] = course.getLongDisplayArray();
+		String[][] copy = new String[rows.size()][];
+		for (int i = 0; i < copy.length; i++) {
+			copy[i] = rows.get(i).clone();
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns a copy of the schedule, for readers that work on it without holding
+	 * the schedule lock.
+	 *
+	 * @return a new list of the scheduled activities, in schedule order
+	 */
+	private ArrayList<Activity> copySchedule() {
+		scheduleLock.lock();
+		try {
+			return new ArrayList<Activity>(schedule);
+		} finally {
+			scheduleLock.unlock();
 		}
-		// returns the array
-		return fullScheduledCoursesArray;
 	}
 
 	/**
-	 * Uses paramaters name and section to iterate through catalog and
-	 * return the matching course, returns null of it is not found.
+	 * Uses paramaters name and section to look up the matching course in
+	 * the catalog index, returns null of it is not found.
      *
      * @param name The name of the course.
      * @param section The section of the course.
      * @return The Course object matching the name and section, or null if not found.
      */
 	public Course getCourseFromCatalog(String name, String section) {
-	    // Iterates through catalog.
-	    for (Course course : catalog) {
-	        // Stores course name and section in temporary string variables.
-	        String tempName = course.getName();
-	        String tempSection = course.getSection();
-	        // If the temporary variables equal the parameters, it returns the course.
-	        if (name.equals(tempName) && section.equals(tempSection)) {
-	            return course;
-	        }
-	    }
-	    // Returns null if the course is not found.
-	    return null;
+	    // Returns null if the course is not found
+	    return catalog.getCourse(name, section);
 	}
 
 	/**
@@ -163,33 +330,19 @@ public class WolfScheduler {
      * @param section The section of the course.
      * @return True if the course is added successfully, false if not found in the 
      * catalog or already in the schedule.
-     * @throws IllegalArgumentException If a duplicate course is found in the schedule.
+     * @throws IllegalArgumentException If a duplicate course is found in the schedule,
+     * the course conflicts with the schedule, or the section is full.
      */
 	public Boolean addCourseToSchedule(String name, String section) {
 		// creates Activity that stores course from catalog that matches parameters
 	    Activity activityToAdd = getCourseFromCatalog(name, section);
-	    // iterates through schedule to check for duplicates
-	    for (Activity activityFromSchedule : schedule) {
-	        if (activityFromSchedule.isDuplicate(activityToAdd)) {
-	        	// if duplicate is found it throws an exception, does not care about
-	        	// different sections
-	            throw new IllegalArgumentException("You are already enrolled in " + name);
-	        }
-	        try {
-	            // Checks for time conflicts
-	            activityFromSchedule.checkConflict(activityToAdd);
-	        } catch (ConflictException e) {
-	            // Catch ConflictException and throw IllegalArgumentException with the specified message
-	            throw new IllegalArgumentException("The course cannot be added due to a conflict.");
-	        }
-	    }
-	    // If the course is found in the catalog, add it to the schedule and return true
-	    if (activityToAdd != null) {
-	        schedule.add(activityToAdd);
-	        return true;
-	    }
 	    // returns false if the course was not found in the catalog
-	    return false;
+	    if (activityToAdd == null) {
+	        return false;
+	    }
+	    addActivity(activityToAdd, "You are already enrolled in " + name,
+	            "The course cannot be added due to a conflict.");
+	    return true;
 	}
 	
 	/**
@@ -206,24 +359,200 @@ public class WolfScheduler {
 	    // Create an Event object with the provided parameters
 	    Event eventToAdd = new Event(eventTitle, eventMeetingDays, eventStartTime, eventEndTime, eventDetails);
 
-	    // Check if an event with the same title already exists in the schedule
-	    for (Activity activityFromSchedule : schedule) {
-	        if (activityFromSchedule.isDuplicate(eventToAdd)) {
-	            throw new IllegalArgumentException("You have already created an event called " + eventTitle);
+	    // Check if an event with the same title already exists in the schedule, then add it
+	    addActivity(eventToAdd, "You have already created an event called " + eventTitle,
+	            "The event cannot be added due to a conflict.");
+	}
+
+	/**
+	 * Adds an activity to the schedule if it is neither a duplicate of nor in conflict
+	 * with a scheduled activity.  The check and the add are made under the schedule
+	 * lock, so two threads can never both add activities that conflict.  A course
+	 * takes a seat in its section once the checks pass, unless sessions are waiting
+	 * for one, since freed seats go to the waitlist first.
+	 *
+	 * @param activityToAdd the activity to add
+	 * @param duplicateMessage message thrown for a duplicate
+	 * @param conflictMessage message thrown for a conflict
+	 * @throws IllegalArgumentException if the activity is a duplicate or conflicts, or
+	 * is a course with no open seats
+	 */
+	private void addActivity(Activity activityToAdd, String duplicateMessage, String conflictMessage) {
+	    scheduleLock.lock();
+	    try {
+	        checkCanAdd(activityToAdd, duplicateMessage, conflictMessage);
+	        if (activityToAdd instanceof Course) {
+	            SectionSeats seats = catalog.getSeats((Course) activityToAdd);
+	            if (seats.getWaitlisted() > 0 || !seats.tryEnroll()) {
+	                throw new IllegalArgumentException("The course cannot be added because it is full.");
+	            }
+	        }
+	        publishAdded(activityToAdd);
+	    } finally {
+	        scheduleLock.unlock();
+	    }
+	}
+
+	/**
+	 * Adds an activity to the end of the schedule.  The schedule lock must be held
+	 * and the activity must have passed checkCanAdd().
+	 *
+	 * @param activityToAdd the activity to add
+	 */
+	private void publishAdded(Activity activityToAdd) {
+	    schedule.add(activityToAdd);
+	    conflictIndex.add(activityToAdd);
+	    scheduledKeys.put(activityToAdd.getDuplicateKey(), addCount++);
+	    // only the new activity's rows are made
+	    scheduledRows.add(activityToAdd.getShortDisplayArray());
+	    fullScheduledRows.add(activityToAdd.getLongDisplayArray());
+	    for (ScheduleListener listener : listeners) {
+	        listener.activityAdded(schedule.size() - 1, activityToAdd);
+	    }
+	}
+
+	/**
+	 * Puts this session on the waitlist of a full section.  The section must be one
+	 * that could be added now, and when a seat is freed it is added if it still can
+	 * be; otherwise the session is dropped from the waitlist.  If a seat is open the
+	 * session is given it right away.
+	 *
+	 * @param name The name of the course.
+	 * @param section The section of the course.
+	 * @return true if the session joined the waitlist, false if the course is not
+	 * found in the catalog
+	 * @throws IllegalArgumentException if the course duplicates or conflicts with the
+	 * schedule, or the session is already waiting for the section
+	 */
+	public boolean joinWaitlist(String name, String section) {
+	    Course course = getCourseFromCatalog(name, section);
+	    if (course == null) {
+	        return false;
+	    }
+	    SectionWaitlist waitlist = catalog.getWaitlist(course);
+	    scheduleLock.lock();
+	    try {
+	        checkCanAdd(course, "You are already enrolled in " + name,
+	                "The course cannot be added due to a conflict.");
+	        if (waitlist.contains(this)) {
+	            throw new IllegalArgumentException("You are already on the waitlist for " + name);
+	        }
+	        waitlist.join(this);
+	    } finally {
+	        scheduleLock.unlock();
+	    }
+	    // promoting locks this session, so the lock must be released first
+	    waitlist.promote();
+	    return true;
+	}
+
+	/**
+	 * Takes this session off the waitlist of a section.
+	 *
+	 * @param name The name of the course.
+	 * @param section The section of the course.
+	 * @return true if the session was on the waitlist
+	 */
+	public boolean leaveWaitlist(String name, String section) {
+	    Course course = getCourseFromCatalog(name, section);
+	    return course != null && catalog.getWaitlist(course).leave(this);
+	}
+
+	/**
+	 * Checks whether this session is on the waitlist of a section.
+	 *
+	 * @param name The name of the course.
+	 * @param section The section of the course.
+	 * @return true if the session is waiting for a seat in the section
+	 */
+	public boolean isOnWaitlist(String name, String section) {
+	    Course course = getCourseFromCatalog(name, section);
+	    return course != null && catalog.getWaitlist(course).contains(this);
+	}
+
+	/**
+	 * Adds a section this session was waiting for, with a seat already taken for it,
+	 * if it is still neither a duplicate of nor in conflict with the schedule.
+	 *
+	 * @param course the section, with a seat taken
+	 * @return true if the section was added, false if the seat must go to another session
+	 */
+	boolean acceptWaitlistSeat(Course course) {
+	    scheduleLock.lock();
+	    try {
+	        checkCanAdd(course, "", "");
+	        publishAdded(course);
+	        return true;
+	    } catch (IllegalArgumentException e) {
+	        // the schedule changed while waiting
+	        return false;
+	    } finally {
+	        scheduleLock.unlock();
+	    }
+	}
+
+	/**
+	 * Checks that an activity is neither a duplicate of nor in conflict with a
+	 * scheduled activity.  If several scheduled activities are duplicates or
+	 * conflicts, the first of them in the schedule decides which message is thrown.
+	 * Duplicates are found in the scheduled keys and conflicts with the conflict
+	 * index, so the check takes O(log N + k) time for N scheduled activities and k
+	 * conflicts, and no exception is thrown to find a conflict.  The schedule lock
+	 * must be held.
+	 *
+	 * @param activityToAdd the activity that would be added
+	 * @param duplicateMessage message thrown for a duplicate
+	 * @param conflictMessage message thrown for a conflict
+	 * @throws IllegalArgumentException if the activity is a duplicate or conflicts
+	 */
+	private void checkCanAdd(Activity activityToAdd, String duplicateMessage, String conflictMessage) {
+	    // when the duplicate was added, does not care about different sections
+	    Long duplicate = scheduledKeys.get(activityToAdd.getDuplicateKey());
+	    // the schedule order only matters if there is a conflict
+	    if (conflictIndex.hasConflict(activityToAdd)) {
+	        long firstConflict = Long.MAX_VALUE;
+	        for (Activity conflicting : conflictIndex.getConflicts(activityToAdd)) {
+	            firstConflict = Math.min(firstConflict, scheduledKeys.get(conflicting.getDuplicateKey()));
 	        }
-	        try {
-	            // Checks for time conflicts
-	            activityFromSchedule.checkConflict(eventToAdd);
-	        } catch (ConflictException e) {
-	            // Catch ConflictException and throw IllegalArgumentException with the specified message
-	            throw new IllegalArgumentException("The event cannot be added due to a conflict.");
+	        if (duplicate == null || firstConflict < duplicate) {
+	            throw new IllegalArgumentException(conflictMessage);
 	        }
 	    }
-	    // Add the event to the schedule
-	    schedule.add(eventToAdd);
+	    if (duplicate != null) {
+	        throw new IllegalArgumentException(duplicateMessage);
+	    }
+	}
+
+	/**
+	 * Returns every scheduled activity that conflicts with the given activity, in
+	 * order of the first day and time they conflict.
+	 *
+	 * @param activity the activity to check against the schedule
+	 * @return the conflicting scheduled activities, empty if there are none
+	 */
+	public ArrayList<Activity> getConflictingActivities(Activity activity) {
+	    scheduleLock.lock();
+	    try {
+	        return conflictIndex.getConflicts(activity);
+	    } finally {
+	        scheduleLock.unlock();
+	    }
 	}
 
 
+	/**
+	 * Returns a generator of every conflict-free way to take one section of each of
+	 * the given courses on top of the current schedule.  Sections that conflict with
+	 * or duplicate a scheduled activity are never chosen.
+	 *
+	 * @param courseNames names of the courses to take one section of, each once
+	 * @return a generator of the schedules
+	 * @throws IllegalArgumentException if a course name is null or given more than once
+	 */
+	public ScheduleGenerator getScheduleGenerator(ArrayList<String> courseNames) {
+	    return new ScheduleGenerator(catalog.getCourses(), courseNames, copySchedule());
+	}
+
 	/**
      * Removes a course from the schedule based on its name and section and return true
      * if it is in schedule, if it is not than it will return false.
@@ -232,14 +561,28 @@ public class WolfScheduler {
      * @return True if the course is removed successfully, false if not found in the schedule.
      */
 	public boolean removeActivityFromSchedule(int idx) {
+	    Activity removed;
+	    scheduleLock.lock();
 	    try {
 	        // Attempt to remove the activity at the specified index
-	        schedule.remove(idx);
-	        return true;
+	        removed = schedule.remove(idx);
+	        conflictIndex.remove(removed);
+	        scheduledKeys.remove(removed.getDuplicateKey());
+	        scheduledRows.remove(idx);
+	        fullScheduledRows.remove(idx);
+	        releaseSeat(removed);
+	        for (ScheduleListener listener : listeners) {
+	            listener.activityRemoved(idx, removed);
+	        }
 	    } catch (IndexOutOfBoundsException e) {
 	        // Catch any IndexOutOfBoundsException and return false
 	        return false;
+	    } finally {
+	        scheduleLock.unlock();
 	    }
+	    // give the seat to the waitlist once this session is unlocked
+	    promoteWaitlist(removed);
+	    return true;
 	}
 
 
@@ -262,18 +605,63 @@ public class WolfScheduler {
 	public void exportSchedule(String filename) {
 		// attempts to write the schedule in filename
 		try {
-			ActivityRecordIO.writeActivityRecords(filename, schedule);
+			ActivityRecordIO.writeActivityRecords(filename, copySchedule());
 		} catch (IOException e) { // catches IOException and throws IllegalArgumentException.
 			throw new IllegalArgumentException("The file cannot be saved.");
 		}
 	}
 
 	/**
-	 * Resets the schedule by creating an empty ArrayList.
+	 * Resets the schedule by creating an empty ArrayList, releasing the seats of
+	 * its courses.
 	 */
 	public void resetSchedule() {
-		// Creates empty ArrayList to reset schedule
-		schedule = new ArrayList<>();
+		ArrayList<Activity> removed;
+		scheduleLock.lock();
+		try {
+			removed = schedule;
+			// Creates empty ArrayList to reset schedule
+			schedule = new ArrayList<>();
+			conflictIndex.clear();
+			scheduledKeys.clear();
+			scheduledRows = new ArrayList<String[]>();
+			fullScheduledRows = new ArrayList<String[]>();
+			for (Activity activity : removed) {
+				releaseSeat(activity);
+			}
+			for (ScheduleListener listener : listeners) {
+				listener.scheduleReset(removed.size());
+			}
+		} finally {
+			scheduleLock.unlock();
+		}
+		// give the seats to the waitlists once this session is unlocked
+		for (Activity activity : removed) {
+			promoteWaitlist(activity);
+		}
+	}
+
+	/**
+	 * Releases the seat taken by an activity removed from the schedule, if it is a course.
+	 *
+	 * @param activity the removed activity
+	 */
+	private void releaseSeat(Activity activity) {
+		if (activity instanceof Course) {
+			catalog.getSeats((Course) activity).releaseSeat();
+		}
+	}
+
+	/**
+	 * Gives the seat released by an activity removed from the schedule to the
+	 * section's waitlist, if it is a course.  The schedule lock must not be held.
+	 *
+	 * @param activity the removed activity
+	 */
+	private void promoteWaitlist(Activity activity) {
+		if (activity instanceof Course) {
+			catalog.getWaitlist((Course) activity).promote();
+		}
 	}
 
 	/**
@@ -287,8 +675,50 @@ public class WolfScheduler {
 		if (title == null) {
 			throw new IllegalArgumentException("Title cannot be null.");
 		}
-		// sets current instance of title equal to parameter
-		this.title = title;
+		scheduleLock.lock();
+		try {
+			// sets current instance of title equal to parameter
+			this.title = title;
+			for (ScheduleListener listener : listeners) {
+				listener.titleChanged(title);
+			}
+		} finally {
+			scheduleLock.unlock();
+		}
+	}
+
+	/**
+	 * Adds a listener to be told of changes to the schedule from now on, and returns
+	 * the schedule as it is when the listener is added.  Both are done under the
+	 * schedule lock, so the listener is told of exactly the changes made after the
+	 * schedule returned, and a display can build its rows from it without missing
+	 * or repeating a change.
+	 *
+	 * @param listener the listener to add
+	 * @return a new list of the scheduled activities, in schedule order
+	 * @throws IllegalArgumentException if the listener is null
+	 */
+	public ArrayList<Activity> addScheduleListener(ScheduleListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Invalid listener.");
+		}
+		scheduleLock.lock();
+		try {
+			listeners.add(listener);
+			return new ArrayList<Activity>(schedule);
+		} finally {
+			scheduleLock.unlock();
+		}
+	}
+
+	/**
+	 * Removes a listener added with addScheduleListener().
+	 *
+	 * @param listener the listener to remove
+	 * @return true if the listener had been added
+	 */
+	public boolean removeScheduleListener(ScheduleListener listener) {
+		return listeners.remove(listener);
 	}
 	
 	
@@ -9,6 +9,12 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -19,18 +25,28 @@ import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.border.Border;
 import javax.swing.border.EtchedBorder;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import javax.swing.table.AbstractTableModel;
 
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseSnapshotIO;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CatalogLoader;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.ScheduleListener;
 import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
 
 /**
@@ -51,10 +67,14 @@ public class WolfSchedulerGUI extends JFrame {
 	private static final String SCHEDULER_PANEL = "SchedulerPanel";
 	/** Constant to identify SchedulePanel for {@link CardLayout}. */
 	private static final String SCHEDULE_PANEL = "SchedulePanel";
+	/** Constant to identify LoadingPanel for {@link CardLayout}. */
+	private static final String LOADING_PANEL = "LoadingPanel";
 	/** Scheduler panel */
 	private SchedulerPanel pnlScheduler;
 	/** Schedule panel */
 	private SchedulePanel pnlSchedule;
+	/** Panel shown while the catalog is read */
+	private LoadingPanel pnlLoading;
 	/** Reference to {@link CardLayout} for panel.  Stacks all of the panels. */
 	private CardLayout cardLayout;
 	/** Reference to the WolfScheduler */
@@ -73,33 +93,51 @@ public class WolfSchedulerGUI extends JFrame {
 		setTitle(APP_TITLE);
 		setDefaultCloseOperation(EXIT_ON_CLOSE);
 		
-		//Construct the underlying model object
+		//Choose the catalog file
+		String fileName = null;
 		try {			
-			scheduler = new WolfScheduler(getFileName(true));
+			fileName = getFileName(true);
 		} catch (IllegalStateException e) {
 			System.exit(1);
 		}
 		
-		//Construct panels
-		pnlScheduler = new SchedulerPanel();
-		pnlSchedule = new SchedulePanel();
-		
 		//Create JPanel that will hold the rest of the GUI information.
 		//The JPanel utilizes a CardLayout, which stacks several different
 		//JPanels.  User actions lead to switching which "Card" is visible.
 		panel = new JPanel();
 		cardLayout = new CardLayout();
 		panel.setLayout(cardLayout);
-		panel.add(pnlScheduler, SCHEDULER_PANEL);
-		panel.add(pnlSchedule, SCHEDULE_PANEL);
-		cardLayout.show(panel, SCHEDULER_PANEL);
+		pnlLoading = new LoadingPanel(fileName);
+		panel.add(pnlLoading, LOADING_PANEL);
+		cardLayout.show(panel, LOADING_PANEL);
 		
 		//Add panel to the container
 		Container c = getContentPane();
 		c.add(panel, BorderLayout.CENTER);
 		
-		//Set the GUI visible
+		//Set the GUI visible, then read the catalog in the background
 		setVisible(true);
+		pnlLoading.start();
+	}
+	
+	/**
+	 * Constructs the underlying model object over a catalog that has been read,
+	 * and shows the scheduler.  Called on the event dispatch thread.
+	 * @param catalog the catalog read
+	 */
+	private void showScheduler(CourseCatalog catalog) {
+		scheduler = new WolfScheduler(catalog);
+		
+		//Construct panels
+		pnlScheduler = new SchedulerPanel();
+		pnlSchedule = new SchedulePanel();
+		panel.add(pnlScheduler, SCHEDULER_PANEL);
+		panel.add(pnlSchedule, SCHEDULE_PANEL);
+		cardLayout.show(panel, SCHEDULER_PANEL);
+		panel.remove(pnlLoading);
+		pnlLoading = null;
+		validate();
+		repaint();
 	}
 	
 	/**
@@ -135,6 +173,204 @@ public class WolfSchedulerGUI extends JFrame {
 		new WolfSchedulerGUI();
 	}
 	
+	/**
+	 * Inner class that creates the look and behavior for the {@link JPanel} shown
+	 * while the catalog is read.  A {@link SwingWorker} reads the catalog with a
+	 * {@link CatalogLoader}, so the window keeps responding, and the sections read
+	 * are added to a table a batch at a time as the progress bar fills.  The table
+	 * only previews the catalog, so it keeps the rows of the first MAX_ROWS sections
+	 * and none of the sections themselves.  Cancelling keeps the sections read so far.
+	 * 
+	 * @author Brandon Wroblewski
+	 */
+	private class LoadingPanel extends JPanel implements ActionListener {
+		/** ID number used for object serialization. */
+		private static final long serialVersionUID = 1L;
+		/** Most sections shown in the table while the catalog is read */
+		private static final int MAX_ROWS = 1000;
+		/** Loader of the catalog */
+		private transient CatalogLoader loader;
+		/** Worker reading the catalog */
+		private transient SwingWorker<CourseCatalog, ArrayList<Course>> worker;
+		/** Rows of the first sections read, only changed on the event dispatch thread */
+		private ArrayList<String[]> rows = new ArrayList<String[]>();
+		/** Sections read so far, only changed on the event dispatch thread */
+		private int sectionsLoaded;
+		/** Table model of the first sections read */
+		private LoadedTableModel loadedTableModel;
+		/** Progress bar for the file read */
+		private JProgressBar progressBar;
+		/** Button for cancelling the load */
+		private JButton btnCancel;
+		
+		/**
+		 * Constructs the LoadingPanel.
+		 * @param fileName file to read the catalog from
+		 */
+		public LoadingPanel(String fileName) {
+			super(new BorderLayout());
+			// a snapshot of the catalog in the user's cache lets the next start skip parsing it
+			loader = new CatalogLoader(fileName, CatalogLoader.DEFAULT_BATCH_SIZE, CourseSnapshotIO.USER_SNAPSHOT_DIRECTORY);
+			
+			progressBar = new JProgressBar(0, 100);
+			progressBar.setStringPainted(true);
+			btnCancel = new JButton("Cancel");
+			btnCancel.addActionListener(this);
+			JPanel pnlProgress = new JPanel(new BorderLayout());
+			pnlProgress.add(progressBar, BorderLayout.CENTER);
+			pnlProgress.add(btnCancel, BorderLayout.EAST);
+			Border lowerEtched = BorderFactory.createEtchedBorder(EtchedBorder.LOWERED);
+			pnlProgress.setBorder(BorderFactory.createTitledBorder(lowerEtched, "Loading " + new File(fileName).getName()));
+			
+			loadedTableModel = new LoadedTableModel();
+			JTable tableLoaded = new JTable(loadedTableModel);
+			tableLoaded.setFillsViewportHeight(true);
+			JScrollPane scrollLoaded = new JScrollPane(tableLoaded);
+			scrollLoaded.setBorder(BorderFactory.createTitledBorder(lowerEtched, "Course Catalog"));
+			
+			add(pnlProgress, BorderLayout.NORTH);
+			add(scrollLoaded, BorderLayout.CENTER);
+		}
+		
+		/**
+		 * Starts reading the catalog in the background.
+		 */
+		public void start() {
+			worker = new SwingWorker<CourseCatalog, ArrayList<Course>>() {
+				
+				/**
+				 * Reads the catalog, publishing each batch of sections.
+				 * @return the catalog read
+				 * @throws FileNotFoundException if the file cannot be read
+				 */
+				@Override
+				protected CourseCatalog doInBackground() throws FileNotFoundException {
+					CourseCatalog catalog = loader.load(batch -> {
+						publish(batch);
+						setProgress(loader.getProgress());
+					});
+					// build the search index here so the first keystroke does not wait for it
+					catalog.getSearchIndex();
+					return catalog;
+				}
+				
+				/**
+				 * Adds the rows of batches of sections to the table, until it is full, and
+				 * counts the sections.
+				 * @param batches batches published since the last call
+				 */
+				@Override
+				protected void process(List<ArrayList<Course>> batches) {
+					int first = rows.size();
+					for (ArrayList<Course> batch : batches) {
+						sectionsLoaded += batch.size();
+						// each row is made once, here, rather than every time the table draws it
+						for (int i = 0; i < batch.size() && rows.size() < MAX_ROWS; i++) {
+							rows.add(batch.get(i).getShortDisplayArray());
+						}
+					}
+					if (rows.size() > first) {
+						loadedTableModel.fireTableRowsInserted(first, rows.size() - 1);
+					}
+					progressBar.setValue(loader.getProgress());
+					progressBar.setString(sectionsLoaded + " sections");
+				}
+				
+				/**
+				 * Shows the scheduler once the catalog is read.  If no catalog could be read,
+				 * the user is told why and the scheduler starts with an empty catalog.
+				 */
+				@Override
+				protected void done() {
+					CourseCatalog catalog;
+					try {
+						catalog = get();
+					} catch (ExecutionException e) {
+						// no catalog could be read, as when the file is not found
+						Throwable cause = e.getCause();
+						String reason = cause.getMessage() == null ? cause.toString() : cause.getMessage();
+						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The course catalog cannot be loaded: " + reason);
+						catalog = new CourseCatalog(new ArrayList<Course>());
+					} catch (InterruptedException e) {
+						// cannot happen once the worker is done, but start empty if it does
+						Thread.currentThread().interrupt();
+						catalog = new CourseCatalog(new ArrayList<Course>());
+					}
+					showScheduler(catalog);
+					// the scheduler has the catalog now, so the preview rows are not needed
+					rows.clear();
+					rows.trimToSize();
+					loadedTableModel.fireTableDataChanged();
+				}
+			};
+			worker.execute();
+		}
+		
+		/**
+		 * Cancels the load when the cancel button is pressed.
+		 * @param e user event that triggers an action.
+		 */
+		@Override
+		public void actionPerformed(ActionEvent e) {
+			if (e.getSource() == btnCancel) {
+				// the worker finishes with the sections read so far
+				loader.cancel();
+				btnCancel.setEnabled(false);
+				progressBar.setString("Cancelling");
+			}
+		}
+		
+		/**
+		 * {@link LoadedTableModel} is the object underlying the {@link JTable} that shows the
+		 * first sections read.  Rows are made once, when their batch arrives.
+		 * @author Brandon Wroblewski
+		 */
+		private class LoadedTableModel extends AbstractTableModel {
+			
+			/** ID number used for object serialization. */
+			private static final long serialVersionUID = 1L;
+			/** Column names for the table */
+			private String [] columnNames = {"Name", "Section", "Title", "Meeting Information"};
+			
+			/**
+			 * Returns the number of columns in the table.
+			 * @return the number of columns in the table.
+			 */
+			public int getColumnCount() {
+				return columnNames.length;
+			}
+			
+			/**
+			 * Returns the number of rows in the table.
+			 * @return the number of rows in the table.
+			 */
+			public int getRowCount() {
+				return rows.size();
+			}
+			
+			/**
+			 * Returns the column name at the given index.
+			 * @param col column index
+			 * @return the column name at the given column.
+			 */
+			public String getColumnName(int col) {
+				return columnNames[col];
+			}
+			
+			/**
+			 * Returns the data at the given {row, col} index.
+			 * @param row row index
+			 * @param col column index
+			 * @return the data at the given location.
+			 */
+			public Object getValueAt(int row, int col) {
+				if (row < 0 || row >= rows.size() || col < 0 || col >= columnNames.length)
+					return null;
+				return rows.get(row)[col];
+			}
+		}
+	}
+
 	/**
 	 * Inner class that creates the look and behavior for the {@link JPanel} that 
 	 * shows the list of requirements.
@@ -157,7 +393,9 @@ public class WolfSchedulerGUI extends JFrame {
 		/** JTable for displaying the schdule of Courses */
 		private JTable tableSchedule;
 		/** TableModel for catalog */
-		private CourseTableModel catalogTableModel;
+		private CatalogTableModel catalogTableModel;
+		/** Catalog search text field */
+		private JTextField txtSearch;
 		/** TableModel for schedule */
 		private CourseTableModel scheduleTableModel;
 		/** Student's Schedule title label */
@@ -285,7 +523,7 @@ public class WolfSchedulerGUI extends JFrame {
 			pnlActions.setToolTipText("Scheduler Actions");
 						
 			//Set up Catalog table
-			catalogTableModel = new CourseTableModel(true);
+			catalogTableModel = new CatalogTableModel();
 			tableCatalog = new JTable(catalogTableModel) {
 				private static final long serialVersionUID = 1L;
 				
@@ -310,6 +548,10 @@ public class WolfSchedulerGUI extends JFrame {
 
 				@Override
 				public void valueChanged(ListSelectionEvent e) {
+					// the selection is cleared when the search changes the rows
+					if (tableCatalog.getSelectedRow() == -1) {
+						return;
+					}
 					String name = tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 0).toString();
 					String section = tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 1).toString();
 					Course c = scheduler.getCourseFromCatalog(name, section);
@@ -324,8 +566,36 @@ public class WolfSchedulerGUI extends JFrame {
 			scrollCatalog.setBorder(borderCatalog);
 			scrollCatalog.setToolTipText("Course Catalog");
 			
+			//Set up the catalog search, which filters the catalog as the user types
+			txtSearch = new JTextField(20);
+			txtSearch.setToolTipText("Search by course name, title words, or instructor id");
+			txtSearch.getDocument().addDocumentListener(new DocumentListener() {
+				
+				@Override
+				public void insertUpdate(DocumentEvent e) {
+					catalogTableModel.setSearch(txtSearch.getText());
+				}
+				
+				@Override
+				public void removeUpdate(DocumentEvent e) {
+					catalogTableModel.setSearch(txtSearch.getText());
+				}
+				
+				@Override
+				public void changedUpdate(DocumentEvent e) {
+					catalogTableModel.setSearch(txtSearch.getText());
+				}
+				
+			});
+			JPanel pnlSearch = new JPanel(new BorderLayout());
+			pnlSearch.add(new JLabel("Search: "), BorderLayout.WEST);
+			pnlSearch.add(txtSearch, BorderLayout.CENTER);
+			JPanel pnlCatalog = new JPanel(new BorderLayout());
+			pnlCatalog.add(pnlSearch, BorderLayout.NORTH);
+			pnlCatalog.add(scrollCatalog, BorderLayout.CENTER);
+			
 			//Set up Schedule table
-			scheduleTableModel = new CourseTableModel(false);
+			scheduleTableModel = new CourseTableModel();
 			tableSchedule = new JTable(scheduleTableModel);
 			tableSchedule.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 			tableSchedule.setPreferredScrollableViewportSize(new Dimension(500, 500));
@@ -336,8 +606,21 @@ public class WolfSchedulerGUI extends JFrame {
 			borderSchedule = BorderFactory.createTitledBorder(lowerEtched, scheduler.getScheduleTitle());
 			scrollSchedule.setBorder(borderSchedule);
 			scrollSchedule.setToolTipText(scheduler.getScheduleTitle());
-			
-			updateTables();
+			scheduler.addScheduleListener(new ScheduleListener() {
+				
+				/**
+				 * Shows the new title on the schedule table.
+				 * @param title the new title
+				 */
+				@Override
+				public void titleChanged(String title) {
+					SwingUtilities.invokeLater(() -> {
+						borderSchedule.setTitle(title);
+						scrollSchedule.setToolTipText(title);
+						scrollSchedule.repaint();
+					});
+				}
+			});
 			
 			//Set up the course details panel
 			pnlCourseDetails = new JPanel();
@@ -500,7 +783,7 @@ public class WolfSchedulerGUI extends JFrame {
 			pnlAddEvent.setBorder(borderAddEvent);
 			pnlAddEvent.setToolTipText("AddEvent");
 			
-			add(scrollCatalog);
+			add(pnlCatalog);
 			add(pnlActions);
 			add(scrollSchedule);
 			add(pnlCourseDetails);
@@ -525,7 +808,6 @@ public class WolfSchedulerGUI extends JFrame {
 						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, iae.getMessage());
 					}
 				}
-				updateTables();
 			} else if (e.getSource() == btnRemoveCourse) {
 				int row = tableSchedule.getSelectedRow();
 				if (row == -1 || row == tableSchedule.getRowCount()) {
@@ -533,10 +815,8 @@ public class WolfSchedulerGUI extends JFrame {
 				} else {
 					scheduler.removeActivityFromSchedule(row);
 				}
-				updateTables();
 			} else if (e.getSource() == btnReset) {
 				scheduler.resetSchedule();
-				updateTables();
 			} else if (e.getSource() == btnDisplay) {
 				cardLayout.show(panel, SCHEDULE_PANEL);
 				pnlSchedule.updateFinalizedTable();
@@ -546,7 +826,6 @@ public class WolfSchedulerGUI extends JFrame {
 				} catch (IllegalArgumentException iae) {
 					JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "Invalid title.");
 				}
-				borderSchedule.setTitle(scheduler.getScheduleTitle());
 			} else if (e.getSource() == btnAddEvent) {
 				try {
 					String eventMeetingDays = "";
@@ -623,7 +902,6 @@ public class WolfSchedulerGUI extends JFrame {
 					scheduler.addEventToSchedule(txtEventTitle.getText(), eventMeetingDays, eventStartTime, eventEndTime, txtDetails.getText());
 					
 					resetEvent();
-					updateTables();
 				} catch (IllegalArgumentException iae) {
 					String message = iae.getMessage();
 					if (message == null || "".equals(message)) {
@@ -658,14 +936,6 @@ public class WolfSchedulerGUI extends JFrame {
 			txtDetails.setText("");
 		}
 		
-		/**
-		 * Updates the catalog and schedule tables.
-		 */
-		private void updateTables() {
-			catalogTableModel.updateData();
-			scheduleTableModel.updateData();
-		}
-		
 		/**
 		 * Updates the pnlCourseDetails with full information about the most
 		 * recently selected course.
@@ -682,30 +952,115 @@ public class WolfSchedulerGUI extends JFrame {
 			}
 		}
 		
+		/**
+		 * {@link CatalogTableModel} is the object underlying the {@link JTable} object that displays
+		 * the catalog of {@link Course}s to the user.  Rows are asked for from the {@link WolfScheduler}
+		 * only when the table draws them, and the most recently drawn rows are kept, so a catalog
+		 * of any size opens at once and takes the same memory to show.  A search shows only the
+		 * matching courses, found with the catalog's search index.
+		 * @author Brandon Wroblewski
+		 */
+		private class CatalogTableModel extends AbstractTableModel {
+			
+			/** ID number used for object serialization. */
+			private static final long serialVersionUID = 1L;
+			/** Most rows kept, enough for several screens of the table */
+			private static final int ROW_CACHE_SIZE = 512;
+			/** Column names for the table */
+			private String [] columnNames = {"Name", "Section", "Title", "Meeting Information"};
+			/** Catalog indexes of the courses shown, or null to show the whole catalog */
+			private int[] shown;
+			/** Rows most recently drawn, keyed by catalog index, least recently used first */
+			private Map<Integer, String[]> rows = new LinkedHashMap<Integer, String[]>(ROW_CACHE_SIZE, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				/**
+				 * Drops the least recently used row once the cache is full.
+				 * @param eldest least recently used row
+				 * @return true if the cache is over its size
+				 */
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, String[]> eldest) {
+					return size() > ROW_CACHE_SIZE;
+				}
+			};
+
+			/**
+			 * Returns the number of columns in the table.
+			 * @return the number of columns in the table.
+			 */
+			public int getColumnCount() {
+				return columnNames.length;
+			}
+
+			/**
+			 * Returns the number of rows in the table.
+			 * @return the number of rows in the table.
+			 */
+			public int getRowCount() {
+				return shown == null ? scheduler.getCatalogSize() : shown.length;
+			}
+			
+			/**
+			 * Returns the column name at the given index.
+			 * @param col column index
+			 * @return the column name at the given column.
+			 */
+			public String getColumnName(int col) {
+				return columnNames[col];
+			}
+
+			/**
+			 * Returns the data at the given {row, col} index, asking the {@link WolfScheduler}
+			 * for the row if it is not kept.
+			 * @param row row index
+			 * @param col column index
+			 * @return the data at the given location.
+			 */
+			public Object getValueAt(int row, int col) {
+				if (row < 0 || row >= getRowCount() || col < 0 || col >= columnNames.length)
+					return null;
+				int idx = shown == null ? row : shown[row];
+				String[] values = rows.get(idx);
+				if (values == null) {
+					values = scheduler.getCatalogRow(idx);
+					rows.put(idx, values);
+				}
+				return values[col];
+			}
+			
+			/**
+			 * Shows the courses matching a search, or the whole catalog if the search is blank.
+			 * @param query the search box text
+			 */
+			public void setSearch(String query) {
+				shown = query.trim().isEmpty() ? null : scheduler.searchCatalog(query);
+				fireTableDataChanged();
+			}
+		}
+		
 		/**
 		 * {@link CourseTableModel} is the object underlying the {@link JTable} object that displays
-		 * the list of {@link Course}s to the user.
+		 * the list of {@link Course}s to the user.  The rows are kept up to date by the
+		 * {@link ScheduleListener} events of the {@link WolfScheduler}, one row at a time.
 		 * @author Sarah Heckman
 		 */
-		private class CourseTableModel extends AbstractTableModel {
+		private class CourseTableModel extends AbstractTableModel implements ScheduleListener {
 			
 			/** ID number used for object serialization. */
 			private static final long serialVersionUID = 1L;
 			/** Column names for the table */
 			private String [] columnNames = {"Name", "Section", "Title", "Meeting Information"};
-			/** Data stored in the table */
-			private Object [][] data;
-			/** Boolean flag if the model applies to the catalog or schedule */
-			private boolean catalog;
+			/** Data stored in the table, one row for each scheduled activity */
+			private ArrayList<Object[]> data;
 			
 			/**
 			 * Constructs the {@link CourseTableModel} by requesting the latest information
-			 * from the {@link RequirementTrackerModel}.
-			 * @param catalog flag to determine if updating the catalog (true) or schedule (false)
+			 * from the {@link RequirementTrackerModel}.  The rows are made from the schedule
+			 * returned when the model starts listening, so no change is missed in between.
 			 */
-			public CourseTableModel(boolean catalog) {
-				this.catalog = catalog;
-				updateData();
+			public CourseTableModel() {
+				updateData(scheduler.addScheduleListener(this));
 			}
 
 			/**
@@ -723,7 +1078,7 @@ public class WolfSchedulerGUI extends JFrame {
 			public int getRowCount() {
 				if (data == null) 
 					return 0;
-				return data.length;
+				return data.size();
 			}
 			
 			/**
@@ -745,8 +1100,8 @@ public class WolfSchedulerGUI extends JFrame {
 				if (data == null)
 					return null;
 				try {
-					return data[row][col];
-				} catch (ArrayIndexOutOfBoundsException e) {
+					return data.get(row)[col];
+				} catch (IndexOutOfBoundsException e) {
 					return null;
 				}
 			}
@@ -758,20 +1113,62 @@ public class WolfSchedulerGUI extends JFrame {
 			 * @param col location to modify the data.
 			 */
 			public void setValueAt(Object value, int row, int col) {
-				data[row][col] = value;
+				data.get(row)[col] = value;
 				fireTableCellUpdated(row, col);
 			}
 			
 			/**
 			 * Updates the given model with {@link Course} information from the {@link WolfScheduler}.
+			 * @param schedule the scheduled activities, in schedule order
 			 */
-			private void updateData() {
-				if (catalog) {
-					data = scheduler.getCourseCatalog();
-				} else {
-					data = scheduler.getScheduledActivities();
+			private void updateData(ArrayList<Activity> schedule) {
+				data = new ArrayList<Object[]>(schedule.size());
+				for (Activity activity : schedule) {
+					data.add(activity.getShortDisplayArray());
 				}
 			}
+			
+			/**
+			 * Inserts the row of an activity added to the schedule.
+			 * @param index index of the activity in the schedule
+			 * @param activity the activity added
+			 */
+			@Override
+			public void activityAdded(int index, Activity activity) {
+				String[] row = activity.getShortDisplayArray();
+				SwingUtilities.invokeLater(() -> {
+					data.add(index, row);
+					fireTableRowsInserted(index, index);
+				});
+			}
+			
+			/**
+			 * Deletes the row of an activity removed from the schedule.
+			 * @param index index the activity had in the schedule
+			 * @param activity the activity removed
+			 */
+			@Override
+			public void activityRemoved(int index, Activity activity) {
+				SwingUtilities.invokeLater(() -> {
+					data.remove(index);
+					fireTableRowsDeleted(index, index);
+				});
+			}
+			
+			/**
+			 * Deletes every row when the schedule is reset.
+			 * @param removedCount number of activities the schedule had
+			 */
+			@Override
+			public void scheduleReset(int removedCount) {
+				SwingUtilities.invokeLater(() -> {
+					int rows = data.size();
+					data.clear();
+					if (rows > 0) {
+						fireTableRowsDeleted(0, rows - 1);
+					}
+				});
+			}
 		}
 	}
 	
@@ -869,31 +1266,32 @@ public class WolfSchedulerGUI extends JFrame {
 		 * Updates the finalized schedule table
 		 */
 		public void updateFinalizedTable() {
-			scheduleTableModel.updateData();
 			borderSchedule.setTitle(scheduler.getScheduleTitle());
 			scrollSchedule.setToolTipText(scheduler.getScheduleTitle());
 		}
 		
 		/**
 		 * {@link FullCourseTableModel} is the object underlying the {@link JTable} object that displays
-		 * the list of {@link Course}s, and all their data, to the user.
+		 * the list of {@link Course}s, and all their data, to the user.  The rows are kept up
+		 * to date like those of {@link CourseTableModel}.
 		 * @author Sarah Heckman
 		 */
-		private class FullCourseTableModel extends AbstractTableModel {
+		private class FullCourseTableModel extends AbstractTableModel implements ScheduleListener {
 			
 			/** ID number used for object serialization. */
 			private static final long serialVersionUID = 1L;
 			/** Column names for the table */
 			private String [] columnNames = {"Name", "Section", "Title", "Credits", "Instructor", "Meeting Information", "Details"};
-			/** Data stored in the table */
-			private Object [][] data;
+			/** Data stored in the table, one row for each scheduled activity */
+			private ArrayList<Object[]> data;
 			
 			/**
 			 * Constructs the {@link CourseTableModel} by requesting the latest information
-			 * from the {@link RequirementTrackerModel}.
+			 * from the {@link RequirementTrackerModel}.  The rows are made from the schedule
+			 * returned when the model starts listening, so no change is missed in between.
 			 */
 			public FullCourseTableModel() {
-				updateData();
+				updateData(scheduler.addScheduleListener(this));
 			}
 
 			/**
@@ -911,7 +1309,7 @@ public class WolfSchedulerGUI extends JFrame {
 			public int getRowCount() {
 				if (data == null) 
 					return 0;
-				return data.length;
+				return data.size();
 			}
 			
 			/**
@@ -933,8 +1331,8 @@ public class WolfSchedulerGUI extends JFrame {
 				if (data == null)
 					return null;
 				try {
-					return data[row][col];
-				} catch (ArrayIndexOutOfBoundsException e) {
+					return data.get(row)[col];
+				} catch (IndexOutOfBoundsException e) {
 					return null;
 				}
 			}
@@ -946,15 +1344,61 @@ public class WolfSchedulerGUI extends JFrame {
 			 * @param col location to modify the data.
 			 */
 			public void setValueAt(Object value, int row, int col) {
-				data[row][col] = value;
+				data.get(row)[col] = value;
 				fireTableCellUpdated(row, col);
 			}
 			
 			/**
 			 * Updates the given model with {@link Course} information from the {@link WolfScheduler}.
+			 * @param schedule the scheduled activities, in schedule order
 			 */
-			private void updateData() {
-				data = scheduler.getFullScheduledActivities();
+			private void updateData(ArrayList<Activity> schedule) {
+				data = new ArrayList<Object[]>(schedule.size());
+				for (Activity activity : schedule) {
+					data.add(activity.getLongDisplayArray());
+				}
+			}
+			
+			/**
+			 * Inserts the row of an activity added to the schedule.
+			 * @param index index of the activity in the schedule
+			 * @param activity the activity added
+			 */
+			@Override
+			public void activityAdded(int index, Activity activity) {
+				String[] row = activity.getLongDisplayArray();
+				SwingUtilities.invokeLater(() -> {
+					data.add(index, row);
+					fireTableRowsInserted(index, index);
+				});
+			}
+			
+			/**
+			 * Deletes the row of an activity removed from the schedule.
+			 * @param index index the activity had in the schedule
+			 * @param activity the activity removed
+			 */
+			@Override
+			public void activityRemoved(int index, Activity activity) {
+				SwingUtilities.invokeLater(() -> {
+					data.remove(index);
+					fireTableRowsDeleted(index, index);
+				});
+			}
+			
+			/**
+			 * Deletes every row when the schedule is reset.
+			 * @param removedCount number of activities the schedule had
+			 */
+			@Override
+			public void scheduleReset(int removedCount) {
+				SwingUtilities.invokeLater(() -> {
+					int rows = data.size();
+					data.clear();
+					if (rows > 0) {
+						fireTableRowsDeleted(0, rows - 1);
+					}
+				});
 			}
 		}
 		
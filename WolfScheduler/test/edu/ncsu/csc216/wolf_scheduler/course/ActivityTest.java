@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 /**
  * Test the Activity Class for handleing conflicts between activities
  * @author Brandon Wroblewski
@@ -113,4 +115,208 @@ class ActivityTest {
 	    assertDoesNotThrow(() -> a1.checkConflict(a2));
 	    assertDoesNotThrow(() -> a2.checkConflict(a1));
 	}
+
+	/**
+	 * Tests the meeting days mask and that changing the meeting days updates it
+	 */
+	@Test
+	public void testGetMeetingDaysMask() {
+	    Activity a1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+	    assertEquals(0b0001010, a1.getMeetingDaysMask());
+	    a1.setMeetingDaysAndTime("HT", 1330, 1445);
+	    assertEquals(0b0010100, a1.getMeetingDaysMask());
+	    a1.setMeetingDaysAndTime("A", 0, 0);
+	    assertEquals(0, a1.getMeetingDaysMask());
+	    // a rejected change keeps the old mask
+	    assertThrows(IllegalArgumentException.class, () -> a1.setMeetingDaysAndTime("MM", 1330, 1445));
+	    assertEquals(0, a1.getMeetingDaysMask());
+
+	    Activity a2 = new Event("Exercise", "UMTWHFS", 800, 900, "");
+	    assertEquals(0b1111111, a2.getMeetingDaysMask());
+	    assertEquals(Activity.WEEKEND_MASK, new Event("Hike", "SU", 800, 900, "").getMeetingDaysMask());
+	}
+
+	/**
+	 * Tests converting meeting day letters to a mask
+	 */
+	@Test
+	public void testToDaysMask() {
+	    assertEquals(0b0101010, Activity.toDaysMask("MWF"));
+	    assertEquals(0b0101010, Activity.toDaysMask("FWM"));
+	    assertEquals(-1, Activity.toDaysMask(null));
+	    assertEquals(-1, Activity.toDaysMask(""));
+	    assertEquals(-1, Activity.toDaysMask("A"));
+	    assertEquals(-1, Activity.toDaysMask("MWM"));
+	    assertEquals(-1, Activity.toDaysMask("m"));
+	}
+
+	/**
+	 * Tests that courses reject weekend and null meeting days, and events reject arranged
+	 */
+	@Test
+	public void testInvalidMeetingDays() {
+	    assertThrows(IllegalArgumentException.class,
+	            () -> new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MS", 1330, 1445));
+	    assertThrows(IllegalArgumentException.class,
+	            () -> new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", null, 1330, 1445));
+	    assertThrows(IllegalArgumentException.class, () -> new Event("Exercise", "A", 0, 0, ""));
+	    assertThrows(IllegalArgumentException.class, () -> new Event("Exercise", "MAW", 800, 900, ""));
+	}
+
+	/**
+	 * Tests the times in minutes and the minutes a week an activity meets
+	 */
+	@Test
+	public void testMinutes() {
+	    Activity a1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+	    assertEquals(810, a1.getStartMinute());
+	    assertEquals(885, a1.getEndMinute());
+	    assertEquals(150, a1.getWeeklyMinutes());
+	    assertEquals(0, new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A").getWeeklyMinutes());
+
+	    assertEquals(0, Activity.toMinutes(0));
+	    assertEquals(1439, Activity.toMinutes(2359));
+	    assertEquals(Activity.MINUTES_PER_DAY + 810, Activity.minuteOfWeek(1, 1330));
+
+	    // Monday and Wednesday only, from the first through the last minute
+	    assertTrue(a1.meetsAt(Activity.minuteOfWeek(1, 1330)));
+	    assertTrue(a1.meetsAt(Activity.minuteOfWeek(3, 1445)));
+	    assertFalse(a1.meetsAt(Activity.minuteOfWeek(1, 1446)));
+	    assertFalse(a1.meetsAt(Activity.minuteOfWeek(2, 1400)));
+	    assertFalse(a1.meetsAt(-1));
+	    assertFalse(a1.meetsAt(7 * Activity.MINUTES_PER_DAY + 810));
+	}
+
+	/**
+	 * Tests the minutes a week two activities overlap
+	 */
+	@Test
+	public void testOverlapMinutes() {
+	    Activity a1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MWF", 1330, 1445);
+	    Activity a2 = new Event("Study", "MTWH", 1400, 1530, "");
+	    Activity a3 = new Event("Lunch", "MWF", 1200, 1330, "");
+	    Activity a4 = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A");
+	    // 45 minutes on Monday and Wednesday
+	    assertEquals(90, a1.overlapMinutes(a2));
+	    assertEquals(90, a2.overlapMinutes(a1));
+	    // touching times conflict but do not overlap
+	    assertEquals(0, a1.overlapMinutes(a3));
+	    assertThrows(ConflictException.class, () -> a1.checkConflict(a3));
+	    assertEquals(0, a1.overlapMinutes(a4));
+	    assertEquals(a1.getWeeklyMinutes(), a1.overlapMinutes(a1));
+	}
+
+	/**
+	 * Tests that conflictsWith() agrees with checkConflict()
+	 */
+	@Test
+	public void testConflictsWith() {
+	    Activity[] activities = {
+	        new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445),
+	        new Course("CSC 216", "Software Development Fundamentals", "002", 3, "sesmith5", "M", 1445, 1500),
+	        new Course("CSC 216", "Software Development Fundamentals", "003", 3, "sesmith5", "TH", 1330, 1445),
+	        new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"),
+	        new Event("Exercise", "UW", 1200, 1331, ""),
+	        new Event("Lunch", "MTWHF", 1200, 1329, "")
+	    };
+	    for (Activity a1 : activities) {
+	        for (Activity a2 : activities) {
+	            boolean thrown = false;
+	            try {
+	                a1.checkConflict(a2);
+	            } catch (ConflictException e) {
+	                thrown = true;
+	            }
+	            assertEquals(thrown, a1.conflictsWith(a2));
+	            assertEquals(a1.conflictsWith(a2), a2.conflictsWith(a1));
+	        }
+	    }
+	    assertTrue(activities[0].conflictsWith(activities[1]));
+	    assertTrue(activities[0].conflictsWith(activities[4]));
+	    assertFalse(activities[0].conflictsWith(activities[5]));
+	    assertFalse(activities[3].conflictsWith(activities[3]));
+	}
+
+	/**
+	 * Tests that the minute-based conflict check gives the same answer as the check on
+	 * military times that it replaced, over many random pairs of meetings
+	 */
+	@Test
+	public void testMinuteConflictsMatchMilitaryTimeConflicts() {
+	    String days = "UMTWHFS";
+	    Random random = new Random(216);
+	    for (int i = 0; i < 20000; i++) {
+	        Activity a1 = randomEvent(random, days);
+	        Activity a2 = randomEvent(random, days);
+	        // the check before minutes were carried, on the military times themselves
+	        boolean expected = (a1.getMeetingDaysMask() & a2.getMeetingDaysMask()) != 0
+	                && a1.getStartTime() <= a2.getEndTime() && a2.getStartTime() <= a1.getEndTime();
+	        assertEquals(expected, a1.conflictsWith(a2), a1 + " and " + a2);
+	    }
+	}
+
+	/**
+	 * Makes an event on random days at random times, often near the other events' times
+	 * @param random source of randomness
+	 * @param days letters of the days to choose from
+	 * @return the event
+	 */
+	private static Event randomEvent(Random random, String days) {
+	    StringBuilder meetingDays = new StringBuilder();
+	    for (int d = 0; d < days.length(); d++) {
+	        if (random.nextInt(3) == 0) {
+	            meetingDays.append(days.charAt(d));
+	        }
+	    }
+	    if (meetingDays.length() == 0) {
+	        meetingDays.append(days.charAt(random.nextInt(days.length())));
+	    }
+	    // a few hours in the afternoon, so that meetings often touch or overlap
+	    int start = (12 + random.nextInt(3)) * 100 + random.nextInt(60);
+	    int end = Math.min(2359, start + random.nextInt(3) * 100 + random.nextInt(60));
+	    if (end % 100 >= 60) {
+	        end = end + 100 - 60;
+	    }
+	    if (end < start) {
+	        end = start;
+	    }
+	    return new Event("Event", meetingDays.toString(), start, end, "");
+	}
+
+	/**
+	 * Tests that two activities share a duplicate key exactly when they are duplicates
+	 */
+	@Test
+	public void testGetDuplicateKey() {
+	    Activity[] activities = {
+	        new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445),
+	        new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "TH", 1330, 1445),
+	        new Course("CSC 217", "Software Development Fundamentals", "001", 1, "sesmith5", "A"),
+	        new Event("CSC 216", "MW", 1200, 1300, ""),
+	        new Event("Lunch", "MTWHF", 1200, 1300, ""),
+	        new Event("Lunch", "U", 1100, 1200, "Brunch")
+	    };
+	    for (Activity a1 : activities) {
+	        for (Activity a2 : activities) {
+	            assertEquals(a1.isDuplicate(a2), a1.getDuplicateKey().equals(a2.getDuplicateKey()));
+	        }
+	    }
+	}
+
+	/**
+	 * Tests that a frozen activity cannot be changed
+	 */
+	@Test
+	public void testFreeze() {
+	    Event event = new Event("Lunch", "MTWHF", 1200, 1300, "");
+	    assertFalse(event.isFrozen());
+	    event.setTitle("Brunch");
+	    event.freeze();
+	    assertTrue(event.isFrozen());
+	    assertThrows(IllegalStateException.class, () -> event.setTitle("Lunch"));
+	    assertThrows(IllegalStateException.class, () -> event.setMeetingDaysAndTime("MW", 1100, 1200));
+	    assertThrows(IllegalStateException.class, () -> event.setEventDetails("Dining hall"));
+	    assertEquals("Brunch", event.getTitle());
+	    assertEquals("MTWHF 12:00PM-1:00PM", event.getMeetingString());
+	}
 }
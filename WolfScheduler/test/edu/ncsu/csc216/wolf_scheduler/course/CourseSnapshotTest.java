@@ -0,0 +1,71 @@
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Tests CourseSnapshot.
+ * @author Brandon Wroblewski
+ */
+public class CourseSnapshotTest {
+
+	/**
+	 * Tests that decoding a snapshot rebuilds Courses equal to the ones encoded,
+	 * with the same meeting days masks and times.
+	 * @throws IOException if the Courses cannot be encoded
+	 */
+	@Test
+	public void testEncodeAndDecode() throws IOException {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+		courses.add(new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "tmbarnes", "MWF", 935, 1025));
+		courses.add(new Course("CSC 230", "C and Software Tools", "001", 5, "dbsturgi", "TH", 0, 2359));
+
+		ArrayList<Course> decoded = CourseSnapshot.decode(CourseSnapshot.encode(courses, 100, 200), 100, 200);
+		assertEquals(courses.size(), decoded.size());
+		for (int i = 0; i < courses.size(); i++) {
+			Course expected = courses.get(i);
+			Course actual = decoded.get(i);
+			assertEquals(expected, actual);
+			assertEquals(expected.hashCode(), actual.hashCode());
+			assertEquals(expected.toString(), actual.toString());
+			assertEquals(expected.getMeetingDaysMask(), actual.getMeetingDaysMask());
+			assertEquals(expected.getMeetingString(), actual.getMeetingString());
+			assertFalse(actual.isFrozen());
+		}
+		// the rebuilt times are used by the conflict check
+		assertThrows(ConflictException.class, () -> decoded.get(2).checkConflict(courses.get(0)));
+		assertDoesNotThrow(() -> decoded.get(3).checkConflict(courses.get(0)));
+
+		assertEquals(0, CourseSnapshot.decode(CourseSnapshot.encode(new ArrayList<Course>(), 1, 2), 1, 2).size());
+	}
+
+	/**
+	 * Tests that a snapshot made from another version of the catalog file, or a
+	 * damaged one, is rejected.
+	 * @throws IOException if the Courses cannot be encoded
+	 */
+	@Test
+	public void testRejectSnapshot() throws IOException {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		byte[] snapshot = CourseSnapshot.encode(courses, 100, 200);
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> CourseSnapshot.decode(snapshot, 101, 200));
+		assertEquals("Stale snapshot.", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> CourseSnapshot.decode(snapshot, 100, 201));
+		assertEquals("Stale snapshot.", e.getMessage());
+
+		snapshot[snapshot.length / 2] ^= 1;
+		e = assertThrows(IllegalArgumentException.class, () -> CourseSnapshot.decode(snapshot, 100, 200));
+		assertEquals("Invalid snapshot.", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> CourseSnapshot.decode(new byte[3], 100, 200));
+		assertEquals("Invalid snapshot.", e.getMessage());
+	}
+
+}
@@ -416,6 +416,12 @@ public class CourseTest {
 		assertEquals("TH 11:45AM-2:25PM", c4.getMeetingString());
 		Course c5 = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "TH", 1200, 1300);
         assertEquals("TH 12:00PM-1:00PM", c5.getMeetingString());
+
+		// the string follows the meeting when it changes
+		c5.setMeetingDaysAndTime("MW", 1330, 1445);
+		assertEquals("MW 1:30PM-2:45PM", c5.getMeetingString());
+		c5.setMeetingDaysAndTime("A", 0, 0);
+		assertEquals("Arranged", c5.getMeetingString());
 	}
 
 	/**
@@ -6,6 +6,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Scanner;
 
@@ -59,6 +63,59 @@ public class ActivityRecordIOTest {
 		checkFiles("test-files/expected_activity_records.txt", "test-files/actual_activity_records.txt");
 	}
 
+	/**
+	 * Tests that the buffered writer gives exactly the bytes of printing each
+	 * activity's toString() on its own line, and that it replaces a longer file
+	 * without leaving anything of it or any temporary file behind.
+	 * @throws IOException if the records cannot be written or read
+	 */
+	@Test
+	public void testWriteActivityRecordsReplacesFile() throws IOException {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 3000; i++) {
+			Activity a = i % 3 == 0 ? new Event("Event " + i, "MWF", 800, 900, "Details " + i)
+					: i % 3 == 1 ? new Course("CSC " + (100 + i % 900), "Generated Course", "001", 3, "instr", "A")
+					: new Course("CSC " + (100 + i % 900), "Generated Course", "001", 3, "instr", "TH", 1330, 1445);
+			activities.add(a);
+			expected.append(a.toString()).append(System.lineSeparator());
+		}
+		Path directory = Files.createTempDirectory("activity_records");
+		Path recordsFile = directory.resolve("schedule.txt");
+		try {
+			ActivityRecordIO.writeActivityRecords(recordsFile.toString(), activities);
+			assertArrayEquals(expected.toString().getBytes(Charset.defaultCharset()), Files.readAllBytes(recordsFile));
+
+			ArrayList<Activity> shorter = new ArrayList<Activity>(activities.subList(0, 2));
+			ActivityRecordIO.writeActivityRecords(recordsFile.toString(), shorter);
+			assertEquals(shorter.get(0).toString() + System.lineSeparator() + shorter.get(1).toString() + System.lineSeparator(),
+					new String(Files.readAllBytes(recordsFile), Charset.defaultCharset()));
+
+			int files = 0;
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+				for (Path entry : entries) {
+					assertEquals(recordsFile, entry);
+					files++;
+				}
+			}
+			assertEquals(1, files);
+		} finally {
+			Files.deleteIfExists(recordsFile);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Tests that a schedule cannot be written into a missing directory.
+	 */
+	@Test
+	public void testWriteActivityRecordsMissingDirectory() {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		activities.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+		assertThrows(IOException.class,
+				() -> ActivityRecordIO.writeActivityRecords("test-files/no_such_directory/schedule.txt", activities));
+	}
+
 	/**
 	 * Helper method to compare two files for the same contents
 	 * @param expFile expected output
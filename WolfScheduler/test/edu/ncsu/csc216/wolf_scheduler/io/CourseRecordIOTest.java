@@ -7,10 +7,13 @@ import org.junit.jupiter.api.Test;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 
@@ -105,4 +108,102 @@ public class CourseRecordIOTest {
 		}
 	}
 
+	/**
+	 * Tests streamCourseRecords().
+	 * @throws FileNotFoundException if the test files cannot be found
+	 */
+	@Test
+	public void testStreamCourseRecords() throws FileNotFoundException {
+		//The stream yields the same courses in the same order as readCourseRecords()
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile)) {
+			assertArrayEquals(validCourses, courses.map(Course::toString).toArray());
+		}
+		
+		//Filtering keeps only the matching courses, with duplicates already removed
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile)) {
+			assertEquals(3, courses.filter(c -> "CSC 116".equals(c.getName())).collect(Collectors.toList()).size());
+		}
+		
+		//Stopping early does not need the rest of the file
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile)) {
+			assertEquals(validCourse1, courses.findFirst().get().toString());
+		}
+		
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(invalidTestFile)) {
+			assertEquals(0, courses.count());
+		}
+		
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.streamCourseRecords("test-files/no_such_file.txt"));
+	}
+
+	/**
+	 * Tests that readCourseRecords() keeps the first of several records with the
+	 * same name and section.
+	 * @throws IOException if the generated records cannot be written
+	 */
+	@Test
+	public void testReadCourseRecordsFirstDuplicateWins() throws IOException {
+		Path recordsFile = Files.createTempFile("duplicate_course_records", ".txt");
+		try {
+			try (PrintStream out = new PrintStream(recordsFile.toFile())) {
+				out.println("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445");
+				out.println("CSC 216,Software Development Fundamentals,002,3,ixdoming,MW,1330,1445");
+				out.println("CSC 216,Software Development Fundamentals,001,3,jtking,MW,900,1015");
+				out.println("CSC 216,Software Development Fundamentals,002,3,jctetter,A");
+			}
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(recordsFile.toString());
+			assertEquals(2, courses.size());
+			assertEquals("sesmith5", courses.get(0).getInstructorId());
+			assertEquals("ixdoming", courses.get(1).getInstructorId());
+		} finally {
+			Files.deleteIfExists(recordsFile);
+		}
+	}
+
+	/**
+	 * Tests readCourseRecords() on a large generated file, where every fourth record
+	 * repeats the name and section of the record before it.
+	 * @throws IOException if the generated records cannot be written
+	 */
+	@Test
+	public void testReadManyCourseRecords() throws IOException {
+		Path recordsFile = writeGeneratedRecords(100000);
+		try {
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(recordsFile.toString());
+			assertEquals(75000, courses.size());
+			//Only the first record of each name and section is kept
+			for (Course course : courses) {
+				assertEquals("first", course.getInstructorId());
+			}
+			assertEquals(75000, courses.stream().map(CourseRecordIO::recordKey).distinct().count());
+		} finally {
+			Files.deleteIfExists(recordsFile);
+		}
+	}
+
+	/**
+	 * Writes a file of generated course records where every fourth record repeats the
+	 * name and section of the record before it.
+	 * @param count number of records to write
+	 * @return path to the generated file
+	 * @throws IOException if the file cannot be written
+	 */
+	private static Path writeGeneratedRecords(int count) throws IOException {
+		Path recordsFile = Files.createTempFile("generated_course_records", ".txt");
+		try (PrintStream out = new PrintStream(recordsFile.toFile())) {
+			int unique = 0;
+			for (int i = 0; i < count; i++) {
+				if (i % 4 == 3) {
+					unique--;
+				}
+				String name = "" + (char) ('A' + unique / 26000 % 26) + (char) ('A' + unique / 1000 % 26)
+						+ " " + String.format("%03d", unique / 1000 % 1000);
+				String instructor = i % 4 == 3 ? "repeat" : "first";
+				out.println(name + ",Generated Course," + String.format("%03d", unique % 1000) + ",3," + instructor + ",MW,1330,1445");
+				unique++;
+			}
+		}
+		return recordsFile;
+	}
+
 }
@@ -0,0 +1,106 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CourseRecordParser.  Lines are accepted and rejected exactly as the
+ * Scanner based parser in CourseRecordIO did.
+ * @author Brandon Wroblewski
+ */
+public class CourseRecordParserTest {
+
+	/** Parser under test */
+	private final CourseRecordParser parser = new CourseRecordParser();
+
+	/**
+	 * Tests parsing valid timed and arranged records.
+	 */
+	@Test
+	public void testParseValid() {
+		Course c = parser.parse("CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,0910,1100");
+		assertEquals("CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100", c.toString());
+
+		c = parser.parse("CSC 216,Software Development Fundamentals,601,3,jctetter,A");
+		assertEquals("CSC 216,Software Development Fundamentals,601,3,jctetter,A", c.toString());
+
+		// string fields are trimmed
+		c = parser.parse(" CSC 216 , Software Development Fundamentals ,001 ,3, sesmith5 , TH ,1330,1445");
+		assertEquals("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445", c.toString());
+
+		// signed numbers are accepted like Scanner.nextInt()
+		c = parser.parse("CSC 216,Software Development Fundamentals,001,+3,sesmith5,TH,+1330,1445");
+		assertEquals(3, c.getCredits());
+		assertEquals(1330, c.getStartTime());
+	}
+
+	/**
+	 * Tests the handling of leading and trailing commas, which Scanner skips.
+	 */
+	@Test
+	public void testParseDelimiters() {
+		// one leading comma and one trailing comma do not start a token
+		Course c = parser.parse(",CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445,");
+		assertEquals("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445", c.toString());
+		c = parser.parse("CSC 216,Software Development Fundamentals,601,3,jctetter,A,");
+		assertEquals("CSC 216,Software Development Fundamentals,601,3,jctetter,A", c.toString());
+
+		// two trailing commas leave an empty extra token
+		assertInvalid("CSC 216,Software Development Fundamentals,601,3,jctetter,A,,");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445,,");
+		// adjacent commas give an empty token
+		assertInvalid("CSC 216,,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445");
+		assertInvalid(",,CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445");
+	}
+
+	/**
+	 * Tests rejecting records with bad numbers or the wrong number of tokens.
+	 */
+	@Test
+	public void testParseInvalid() {
+		assertInvalid("");
+		assertInvalid(",");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,3,sesmith5");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,three,sesmith5,TH,1330,1445");
+		assertInvalid("CSC 216,Software Development Fundamentals,001, 3,sesmith5,TH,1330,1445");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330 ,1445");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445,extra");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,-,1445");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,2147483648,1445");
+		assertInvalid("CSC 216,Software Development Fundamentals,601,3,jctetter,A,0,0");
+		assertInvalid("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1445,1330");
+		assertInvalid("CSC 2160,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445");
+	}
+
+	/**
+	 * Tests that a parser can be reused for lines of different lengths.
+	 */
+	@Test
+	public void testParseReuse() {
+		StringBuilder title = new StringBuilder();
+		for (int i = 0; i < 50; i++) {
+			title.append("Long Title ");
+		}
+		Course c = parser.parse("CSC 216," + title + ",001,3,sesmith5,TH,1330,1445");
+		assertEquals(title.toString().trim(), c.getTitle());
+		c = parser.parse("CSC 116,Intro,002,3,spbalik,MW,1120,1310");
+		assertEquals("CSC 116,Intro,002,3,spbalik,MW,1120,1310", c.toString());
+
+		char[] chars = "xxCSC 230,C and Software Tools,001,3,dbsturgi,MW,1145,1300yy".toCharArray();
+		c = parser.parse(chars, 2, chars.length - 2);
+		assertEquals("CSC 230,C and Software Tools,001,3,dbsturgi,MW,1145,1300", c.toString());
+	}
+
+	/**
+	 * Asserts that the parser rejects a line.
+	 * @param line line to parse
+	 */
+	private void assertInvalid(String line) {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> parser.parse(line));
+		assertEquals("Invalid course format.", e.getMessage());
+	}
+}
@@ -0,0 +1,83 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Tests CourseRecordReader.
+ * @author Brandon Wroblewski
+ */
+public class CourseRecordReaderTest {
+
+	/** A valid record */
+	private static final String RECORD_1 = "CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100";
+	/** Another valid record */
+	private static final String RECORD_2 = "CSC 216,Software Development Fundamentals,601,3,jctetter,A";
+
+	/**
+	 * Tests splitting lines on every terminator Scanner.nextLine() recognizes.
+	 * @throws IOException if the records cannot be read
+	 */
+	@Test
+	public void testLineTerminators() throws IOException {
+		for (String terminator : new String[] {"\n", "\r\n", "\r", "\u2028", "\u2029", "\u0085"}) {
+			try (CourseRecordReader reader = new CourseRecordReader(
+					new StringReader(RECORD_1 + terminator + RECORD_2 + terminator))) {
+				assertTrue(reader.nextLine());
+				assertEquals(RECORD_1, reader.readCourse().toString());
+				assertTrue(reader.nextLine());
+				assertEquals(RECORD_2, reader.readCourse().toString());
+				assertFalse(reader.nextLine());
+			}
+		}
+	}
+
+	/**
+	 * Tests empty lines and a last line without a terminator.
+	 * @throws IOException if the records cannot be read
+	 */
+	@Test
+	public void testEmptyAndUnterminatedLines() throws IOException {
+		try (CourseRecordReader reader = new CourseRecordReader(new StringReader("\r\n\n" + RECORD_1))) {
+			assertTrue(reader.nextLine());
+			assertThrows(IllegalArgumentException.class, () -> reader.readCourse());
+			assertTrue(reader.nextLine());
+			assertThrows(IllegalArgumentException.class, () -> reader.readCourse());
+			assertTrue(reader.nextLine());
+			assertEquals(RECORD_1, reader.readCourse().toString());
+			assertFalse(reader.nextLine());
+		}
+		try (CourseRecordReader reader = new CourseRecordReader(new StringReader(""))) {
+			assertFalse(reader.nextLine());
+		}
+	}
+
+	/**
+	 * Tests lines longer than the initial buffer and a "\r\n" split across reads.
+	 * @throws IOException if the records cannot be read
+	 */
+	@Test
+	public void testBufferBoundaries() throws IOException {
+		StringBuilder title = new StringBuilder();
+		while (title.length() < 20000) {
+			title.append("Long Title ");
+		}
+		String longRecord = "CSC 216," + title.toString().trim() + ",001,3,sesmith5,TH,1330,1445";
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			input.append(i % 100 == 0 ? longRecord : RECORD_1).append("\r\n");
+		}
+		int lines = 0;
+		try (CourseRecordReader reader = new CourseRecordReader(new StringReader(input.toString()))) {
+			while (reader.nextLine()) {
+				assertEquals(lines % 100 == 0 ? longRecord : RECORD_1, reader.readCourse().toString());
+				lines++;
+			}
+		}
+		assertEquals(1000, lines);
+	}
+}
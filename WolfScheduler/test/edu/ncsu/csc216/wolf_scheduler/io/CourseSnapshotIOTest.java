@@ -0,0 +1,168 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CourseSnapshotIO.
+ * @author Brandon Wroblewski
+ */
+public class CourseSnapshotIOTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests that a snapshot reads back the Courses it was written from.
+	 * @throws IOException if the snapshot cannot be written or read
+	 */
+	@Test
+	public void testWriteAndReadSnapshot() throws IOException {
+		Path snapshot = Files.createTempFile("course_records", ".snapshot");
+		try {
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile);
+			CourseSnapshotIO.writeSnapshot(snapshot.toString(), validTestFile, courses);
+			assertSameCourses(courses, CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile));
+
+			CourseSnapshotIO.writeSnapshot(snapshot.toString(), validTestFile, new ArrayList<Course>());
+			assertEquals(0, CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile).size());
+		} finally {
+			Files.deleteIfExists(snapshot);
+		}
+	}
+
+	/**
+	 * Tests that a damaged snapshot is rejected and that loading falls back to the
+	 * catalog file and repairs the snapshot.
+	 * @throws IOException if the snapshot cannot be written or read
+	 */
+	@Test
+	public void testDamagedSnapshot() throws IOException {
+		Path snapshot = Files.createTempFile("course_records", ".snapshot");
+		try {
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile);
+			CourseSnapshotIO.writeSnapshot(snapshot.toString(), validTestFile, courses);
+			byte[] bytes = Files.readAllBytes(snapshot);
+			for (int i : new int[] {0, 30, bytes.length / 2, bytes.length - 1}) {
+				bytes[i] ^= 1;
+				Files.write(snapshot, bytes);
+				Exception e = assertThrows(IllegalArgumentException.class,
+						() -> CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile));
+				assertEquals("Invalid snapshot.", e.getMessage());
+				bytes[i] ^= 1;
+			}
+			Files.write(snapshot, new byte[3]);
+			assertThrows(IllegalArgumentException.class, () -> CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile));
+
+			assertSameCourses(courses, CourseSnapshotIO.readCourseRecords(validTestFile, snapshot.toString()));
+			assertSameCourses(courses, CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile));
+		} finally {
+			Files.deleteIfExists(snapshot);
+		}
+	}
+
+	/**
+	 * Tests that a count too large for the snapshot is rejected before anything is
+	 * allocated for it, even when the checksum matches.
+	 * @throws IOException if the snapshot cannot be written or read
+	 */
+	@Test
+	public void testSnapshotCountTooLarge() throws IOException {
+		Path snapshot = Files.createTempFile("course_records", ".snapshot");
+		try {
+			CourseSnapshotIO.writeSnapshot(snapshot.toString(), validTestFile, CourseRecordIO.readCourseRecords(validTestFile));
+			byte[] bytes = Files.readAllBytes(snapshot);
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			// the string count follows the magic number, version, length, and modification time
+			buffer.putInt(24, Integer.MAX_VALUE);
+			CRC32 crc = new CRC32();
+			crc.update(bytes, 0, bytes.length - Long.BYTES);
+			buffer.putLong(bytes.length - Long.BYTES, crc.getValue());
+			Files.write(snapshot, bytes);
+			Exception e = assertThrows(IllegalArgumentException.class,
+					() -> CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile));
+			assertEquals("Invalid snapshot.", e.getMessage());
+			assertEquals(13, CourseSnapshotIO.readCourseRecords(validTestFile, snapshot.toString()).size());
+		} finally {
+			Files.deleteIfExists(snapshot);
+		}
+	}
+
+	/**
+	 * Tests that a snapshot is stale once its catalog file changes, and that loading
+	 * then reads the new catalog and refreshes the snapshot.
+	 * @throws IOException if the files cannot be written or read
+	 */
+	@Test
+	public void testStaleSnapshot() throws IOException {
+		Path directory = Files.createTempDirectory("course_snapshot");
+		Path catalog = directory.resolve("catalog.txt");
+		Path snapshot = directory.resolve("catalog.snapshot");
+		try {
+			Files.write(catalog, ("CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100\n"
+					+ "CSC 216,Software Development Fundamentals,601,3,jctetter,A\n").getBytes(Charset.defaultCharset()));
+			// the first load has no snapshot to read
+			ArrayList<Course> courses = CourseSnapshotIO.readCourseRecords(catalog.toString(), snapshot.toString());
+			assertEquals(2, courses.size());
+			assertTrue(Files.exists(snapshot));
+			assertSameCourses(courses, CourseSnapshotIO.readCourseRecords(catalog.toString(), snapshot.toString()));
+
+			Files.write(catalog, "CSC 230,C and Software Tools,001,3,dbsturgi,MW,1145,1300\n".getBytes(Charset.defaultCharset()));
+			Exception e = assertThrows(IllegalArgumentException.class,
+					() -> CourseSnapshotIO.readSnapshot(snapshot.toString(), catalog.toString()));
+			assertEquals("Stale snapshot.", e.getMessage());
+			courses = CourseSnapshotIO.readCourseRecords(catalog.toString(), snapshot.toString());
+			assertEquals(1, courses.size());
+			assertEquals("CSC 230,C and Software Tools,001,3,dbsturgi,MW,1145,1300", courses.get(0).toString());
+			assertSameCourses(courses, CourseSnapshotIO.readSnapshot(snapshot.toString(), catalog.toString()));
+
+			assertThrows(FileNotFoundException.class,
+					() -> CourseSnapshotIO.readCourseRecords(directory.resolve("missing.txt").toString(), snapshot.toString()));
+		} finally {
+			Files.deleteIfExists(catalog);
+			Files.deleteIfExists(snapshot);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Tests that each catalog file has its own snapshot in the snapshot directory,
+	 * however its name is written.
+	 */
+	@Test
+	public void testGetSnapshotFileName() {
+		String snapshot = CourseSnapshotIO.getSnapshotFileName("snapshots", validTestFile);
+		assertEquals(Paths.get("snapshots").toAbsolutePath(), Paths.get(snapshot).toAbsolutePath().getParent());
+		assertTrue(Paths.get(snapshot).getFileName().toString().startsWith("course_records.txt-"));
+		assertTrue(snapshot.endsWith(".snapshot"));
+		assertEquals(snapshot, CourseSnapshotIO.getSnapshotFileName("snapshots", "test-files/../test-files/course_records.txt"));
+		assertEquals(snapshot, CourseSnapshotIO.getSnapshotFileName("snapshots", Paths.get(validTestFile).toAbsolutePath().toString()));
+		assertNotEquals(snapshot, CourseSnapshotIO.getSnapshotFileName("snapshots", "test-files/starter_course_records.txt"));
+		assertNotEquals(snapshot, CourseSnapshotIO.getSnapshotFileName("snapshots", "course_records.txt"));
+	}
+
+	/**
+	 * Asserts that two lists hold the same Courses in the same order.
+	 * @param expected the expected Courses
+	 * @param actual the actual Courses
+	 */
+	private static void assertSameCourses(ArrayList<Course> expected, ArrayList<Course> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).toString(), actual.get(i).toString());
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests MappedCourseRecordIO.
+ * @author Brandon Wroblewski
+ */
+public class MappedCourseRecordIOTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Invalid course records */
+	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+
+	/**
+	 * Tests that the test files load to the same Courses as CourseRecordIO.
+	 * @throws IOException if the files cannot be read
+	 */
+	@Test
+	public void testReadCourseRecords() throws IOException {
+		assertSameCourses(CourseRecordIO.readCourseRecords(validTestFile),
+				MappedCourseRecordIO.readCourseRecords(validTestFile));
+		assertEquals(0, MappedCourseRecordIO.readCourseRecords(invalidTestFile).size());
+		assertThrows(FileNotFoundException.class,
+				() -> MappedCourseRecordIO.readCourseRecords("test-files/no_such_file.txt"));
+	}
+
+	/**
+	 * Tests mixed line terminators, a line that is not ASCII, and duplicates.
+	 * @throws IOException if the records cannot be written or read
+	 */
+	@Test
+	public void testReadCourseRecordsLineTerminators() throws IOException {
+		String records = "CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,0910,1100\r\n"
+				+ "CSC 116,Intro to Programming - Java,002,3,spbalik,MW,1120,1310\r"
+				+ "\n\n"
+				+ "CSC 116,Intro to Programming - Java,002,3,jtking,TH,0910,1100\n"
+				+ "CSC 216,Caf\u00e9 Fundamentals,001,3,sesmith5,TH,1330,1445\n"
+				+ "CSC 217,Lab,601,1,sesmith5,A";
+		Path recordsFile = Files.createTempFile("mapped_course_records", ".txt");
+		try {
+			// the accented title is not ASCII whatever the default encoding is
+			Files.write(recordsFile, records.getBytes(StandardCharsets.UTF_8));
+			ArrayList<Course> mapped = MappedCourseRecordIO.readCourseRecords(recordsFile.toString());
+			assertSameCourses(CourseRecordIO.readCourseRecords(recordsFile.toString()), mapped);
+			assertEquals(4, mapped.size());
+			assertEquals("spbalik", mapped.get(1).getInstructorId());
+		} finally {
+			Files.deleteIfExists(recordsFile);
+		}
+	}
+
+	/**
+	 * Tests that lines cut off at the end of a mapped window are read again from
+	 * the next window, and that a line longer than a window is skipped.
+	 * @throws IOException if the records cannot be written or read
+	 */
+	@Test
+	public void testReadCourseRecordsSmallWindows() throws IOException {
+		StringBuilder records = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			if (i == 50) {
+				// an invalid line longer than the window
+				for (int j = 0; j < 300; j++) {
+					records.append('x');
+				}
+				records.append('\n');
+			}
+			records.append("CSC ").append(100 + i).append(",Generated Course,001,3,instr,MW,1330,1445")
+					.append(i % 2 == 0 ? "\n" : "\r\n");
+		}
+		Path recordsFile = Files.createTempFile("mapped_course_records", ".txt");
+		try {
+			Files.write(recordsFile, records.toString().getBytes(Charset.defaultCharset()));
+			ArrayList<Course> expected = CourseRecordIO.readCourseRecords(recordsFile.toString());
+			assertEquals(200, expected.size());
+			for (int windowSize : new int[] {64, 100, 127, 4096}) {
+				assertSameCourses(expected, MappedCourseRecordIO.readCourseRecords(recordsFile.toString(), windowSize));
+			}
+		} finally {
+			Files.deleteIfExists(recordsFile);
+		}
+	}
+
+	/**
+	 * Tests that loading in parallel gives the same Courses, in the same order and with
+	 * the same duplicates removed, as loading on one thread.
+	 * @throws IOException if the records cannot be written or read
+	 */
+	@Test
+	public void testReadCourseRecordsParallel() throws IOException {
+		assertSameCourses(CourseRecordIO.readCourseRecords(validTestFile),
+				MappedCourseRecordIO.readCourseRecordsParallel(validTestFile));
+		assertEquals(0, MappedCourseRecordIO.readCourseRecordsParallel(invalidTestFile).size());
+
+		StringBuilder records = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			// every name and section appears several times with different instructors
+			records.append("CSC ").append(100 + i % 700).append(",Generated Course,").append(String.format("%03d", i % 3))
+					.append(",3,instr").append(i).append(",MW,1330,1445").append(i % 3 == 0 ? "\r\n" : "\n");
+			if (i % 97 == 0) {
+				records.append("not a course record\n");
+			}
+		}
+		Path recordsFile = Files.createTempFile("parallel_course_records", ".txt");
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Files.write(recordsFile, records.toString().getBytes(Charset.defaultCharset()));
+			ArrayList<Course> expected = CourseRecordIO.readCourseRecords(recordsFile.toString());
+			assertEquals(2100, expected.size());
+			assertSameCourses(expected, MappedCourseRecordIO.readCourseRecordsParallel(recordsFile.toString(), pool));
+			for (int chunkSize : new int[] {1, 50, 1000}) {
+				assertSameCourses(expected, MappedCourseRecordIO.readCourseRecordsParallel(recordsFile.toString(),
+						pool, 4096, chunkSize));
+			}
+		} finally {
+			pool.shutdown();
+			Files.deleteIfExists(recordsFile);
+		}
+	}
+
+	/**
+	 * Asserts that two lists hold the same Courses in the same order.
+	 * @param expected the expected Courses
+	 * @param actual the actual Courses
+	 */
+	private static void assertSameCourses(ArrayList<Course> expected, ArrayList<Course> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).toString(), actual.get(i).toString());
+		}
+	}
+}
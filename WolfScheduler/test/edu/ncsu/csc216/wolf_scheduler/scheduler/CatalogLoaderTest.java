@@ -0,0 +1,127 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseSnapshotIO;
+
+/**
+ * Tests CatalogLoader.
+ * @author Brandon Wroblewski
+ */
+public class CatalogLoaderTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests that loading in batches reads the same sections as readCourseRecords().
+	 * @throws FileNotFoundException if the test file cannot be found
+	 */
+	@Test
+	public void testLoad() throws FileNotFoundException {
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		CatalogLoader loader = new CatalogLoader(validTestFile, 3);
+		assertEquals(0, loader.getProgress());
+		assertEquals(0, loader.getSectionsRead());
+
+		ArrayList<ArrayList<Course>> batches = new ArrayList<ArrayList<Course>>();
+		CourseCatalog catalog = loader.load(batch -> batches.add(batch));
+		assertEquals(expected.size(), catalog.size());
+		ArrayList<Course> batched = new ArrayList<Course>();
+		for (int i = 0; i < batches.size(); i++) {
+			// every batch is full except the last
+			if (i < batches.size() - 1) {
+				assertEquals(3, batches.get(i).size());
+			}
+			batched.addAll(batches.get(i));
+		}
+		assertEquals(expected, batched);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), catalog.get(i));
+		}
+		assertEquals(100, loader.getProgress());
+		assertEquals(expected.size(), loader.getSectionsRead());
+		assertFalse(loader.isCancelled());
+
+		// the default batch holds the whole test file
+		ArrayList<ArrayList<Course>> single = new ArrayList<ArrayList<Course>>();
+		assertEquals(expected.size(), new CatalogLoader(validTestFile).load(batch -> single.add(batch)).size());
+		assertEquals(1, single.size());
+
+		assertThrows(FileNotFoundException.class, () -> new CatalogLoader("test-files/no_such_file.txt").load(batch -> { }));
+		assertThrows(IllegalArgumentException.class, () -> new CatalogLoader(validTestFile, 0));
+	}
+
+	/**
+	 * Tests that a loader given a snapshot directory makes the snapshot, passes its
+	 * sections on in batches on later loads, and does not keep a cancelled load.
+	 * @throws IOException if the catalog or snapshot cannot be read or written
+	 */
+	@Test
+	public void testSnapshot() throws IOException {
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		Path directory = Files.createTempDirectory("catalog_loader");
+		Path snapshot = Paths.get(CourseSnapshotIO.getSnapshotFileName(directory.toString(), validTestFile));
+		try {
+			// a cancelled load leaves no snapshot
+			CatalogLoader cancelled = new CatalogLoader(validTestFile, 2, directory.toString());
+			assertEquals(2, cancelled.load(batch -> cancelled.cancel()).size());
+			assertFalse(Files.exists(snapshot));
+
+			assertEquals(expected.size(), new CatalogLoader(validTestFile, 2, directory.toString()).load(batch -> { }).size());
+			assertEquals(expected, CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile));
+
+			// later loads read the snapshot, here one holding only five sections
+			CourseSnapshotIO.writeSnapshot(snapshot.toString(), validTestFile, new ArrayList<Course>(expected.subList(0, 5)));
+			CatalogLoader loader = new CatalogLoader(validTestFile, 2, directory.toString());
+			ArrayList<ArrayList<Course>> batches = new ArrayList<ArrayList<Course>>();
+			CourseCatalog catalog = loader.load(batch -> batches.add(batch));
+			assertEquals(5, catalog.size());
+			assertEquals(3, batches.size());
+			assertEquals(expected.subList(0, 2), batches.get(0));
+			assertEquals(expected.subList(4, 5), batches.get(2));
+			assertEquals(100, loader.getProgress());
+			assertEquals(5, loader.getSectionsRead());
+
+			CatalogLoader stopped = new CatalogLoader(validTestFile, 2, directory.toString());
+			catalog = stopped.load(batch -> stopped.cancel());
+			assertEquals(2, catalog.size());
+			assertEquals(expected.get(1), catalog.get(1));
+
+			assertThrows(FileNotFoundException.class,
+					() -> new CatalogLoader("test-files/no_such_file.txt", 2, directory.toString()).load(batch -> { }));
+		} finally {
+			Files.deleteIfExists(snapshot);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Tests that a cancelled load keeps the sections read so far.
+	 * @throws FileNotFoundException if the test file cannot be found
+	 */
+	@Test
+	public void testCancel() throws FileNotFoundException {
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		CatalogLoader loader = new CatalogLoader(validTestFile, 2);
+		CourseCatalog catalog = loader.load(batch -> loader.cancel());
+		assertTrue(loader.isCancelled());
+		assertEquals(2, catalog.size());
+		assertEquals(2, loader.getSectionsRead());
+		assertEquals(expected.get(0), catalog.get(0));
+		assertEquals(expected.get(1), catalog.get(1));
+		assertEquals(expected.get(1), catalog.getCourse(expected.get(1).getName(), expected.get(1).getSection()));
+	}
+
+}
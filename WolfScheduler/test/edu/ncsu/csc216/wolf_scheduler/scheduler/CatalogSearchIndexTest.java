@@ -0,0 +1,125 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CatalogSearchIndex.
+ * @author Brandon Wroblewski
+ */
+public class CatalogSearchIndexTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests finding sections by name, title, and instructor.
+	 * @throws IOException if the catalog cannot be read
+	 */
+	@Test
+	public void testFind() throws IOException {
+		CatalogSearchIndex index = CourseCatalog.load(validTestFile, false).getSearchIndex();
+		assertEquals(13, index.size());
+
+		//Names ignore case and whitespace
+		assertArrayEquals(new int[] {3, 4, 5, 6, 7, 8, 9}, index.findByNamePrefix("CSC 21"));
+		assertArrayEquals(new int[] {3, 4, 5, 6, 7, 8, 9}, index.findByNamePrefix("csc21"));
+		assertArrayEquals(new int[] {3, 4, 5}, index.findByNamePrefix("CSC216"));
+		assertEquals(13, index.findByNamePrefix("").length);
+		assertEquals(0, index.findByNamePrefix("CSC 9").length);
+		assertEquals(0, index.findByNamePrefix("CSC 2160").length);
+
+		//Every query word must start a word of the title
+		assertArrayEquals(new int[] {3, 4, 5, 6, 7, 8, 9}, index.findByTitle("software dev"));
+		assertArrayEquals(new int[] {6, 7, 8, 9}, index.findByTitle("Fundamentals lab"));
+		assertArrayEquals(new int[] {11}, index.findByTitle("software tools"));
+		assertEquals(0, index.findByTitle("software java").length);
+		assertEquals(13, index.findByTitle("").length);
+
+		//Instructors are found by the whole id
+		assertArrayEquals(new int[] {3, 6, 7, 8, 9}, index.findByInstructor("SESMITH5"));
+		assertEquals(0, index.findByInstructor("sesmith").length);
+	}
+
+	/**
+	 * Tests searching as the search box does.
+	 * @throws IOException if the catalog cannot be read
+	 */
+	@Test
+	public void testSearch() throws IOException {
+		CatalogSearchIndex index = CourseCatalog.load(validTestFile, false).getSearchIndex();
+		assertEquals(13, index.search("  ").length);
+		assertArrayEquals(new int[] {3, 4, 5}, index.search("CSC 216"));
+		assertArrayEquals(new int[] {3, 4, 5}, index.search("csc216"));
+		assertArrayEquals(new int[] {3, 4, 5}, index.search("216"));
+		assertArrayEquals(new int[] {6, 7, 8, 9}, index.search("lab"));
+		assertArrayEquals(new int[] {3, 6, 7, 8, 9}, index.search("sesm"));
+		assertArrayEquals(new int[] {6, 7, 8, 9}, index.search("sesm lab"));
+		assertArrayEquals(new int[] {0, 1, 2}, index.search("Programming - Java"));
+		assertEquals(0, index.search("java lab").length);
+		assertThrows(IllegalArgumentException.class, () -> index.search(null));
+	}
+
+	/**
+	 * Tests that searches of a large catalog find the same sections as checking
+	 * every section.
+	 */
+	@Test
+	public void testSearchMatchesScan() {
+		String[] subjects = {"CSC", "MA", "PY", "ECE", "ST"};
+		String[] titleWords = {"Intro", "Programming", "Data", "Structures", "Calculus", "Physics", "Lab", "Advanced"};
+		String[] instructors = {"jdyoung2", "sesmith5", "jtking", "tmbarnes", "dbsturgi"};
+		Random random = new Random(216);
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int i = 0; i < 20000; i++) {
+			String title = titleWords[random.nextInt(titleWords.length)] + " " + titleWords[random.nextInt(titleWords.length)];
+			courses.add(new Course(subjects[random.nextInt(subjects.length)] + " " + (100 + random.nextInt(400)), title,
+					String.format("%03d", i % 1000), 3, instructors[random.nextInt(instructors.length)], "A"));
+		}
+		CatalogSearchIndex index = new CourseCatalog(courses).getSearchIndex();
+
+		String[] queries = {"c", "CSC 2", "ma1", "data", "lab intro", "sesmith5 calc", "3", "ST 4 adv", "physics data lab"};
+		for (String query : queries) {
+			ArrayList<Integer> expected = new ArrayList<Integer>();
+			for (int i = 0; i < courses.size(); i++) {
+				if (matches(courses.get(i), query)) {
+					expected.add(i);
+				}
+			}
+			int[] found = index.search(query);
+			assertEquals(expected.size(), found.length, query);
+			for (int i = 0; i < found.length; i++) {
+				assertEquals((int) expected.get(i), found[i], query);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether a section matches a query the slow way.
+	 * @param course the section
+	 * @param query the query
+	 * @return true if the section matches
+	 */
+	private boolean matches(Course course, String query) {
+		String name = course.getName().replace(" ", "").toUpperCase(Locale.ROOT);
+		if (name.startsWith(query.replace(" ", "").toUpperCase(Locale.ROOT))) {
+			return true;
+		}
+		String words = " " + course.getName() + " " + course.getTitle() + " " + course.getInstructorId();
+		for (String word : query.trim().split(" ")) {
+			if (!words.toUpperCase(Locale.ROOT).contains(" " + word.toUpperCase(Locale.ROOT))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,129 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests ConflictIndex.
+ * @author Brandon Wroblewski
+ */
+public class ConflictIndexTest {
+
+	/**
+	 * Tests finding every conflict, each once, including activities that only touch.
+	 */
+	@Test
+	public void testGetConflicts() {
+		ConflictIndex index = new ConflictIndex();
+		Activity lab = new Course("CSC 217", "Software Development Fundamentals Lab", "202", 1, "sesmith5", "M", 1040, 1230);
+		Activity lecture = new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW", 1330, 1445);
+		Activity exercise = new Event("Exercise", "MTWHF", 800, 900, "");
+		Activity arranged = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A");
+		index.add(lab);
+		index.add(lecture);
+		index.add(exercise);
+		index.add(arranged);
+
+		// overlaps the end of the lab and the start of the lecture on Monday
+		Activity meeting = new Event("Meeting", "MW", 1200, 1330, "");
+		ArrayList<Activity> conflicts = index.getConflicts(meeting);
+		assertEquals(2, conflicts.size());
+		assertSame(lab, conflicts.get(0));
+		assertSame(lecture, conflicts.get(1));
+		assertTrue(index.hasConflict(meeting));
+
+		// starts when the exercise ends
+		assertEquals(1, index.getConflicts(new Event("Breakfast", "T", 900, 930, "")).size());
+		assertFalse(index.hasConflict(new Event("Breakfast", "T", 901, 930, "")));
+		assertFalse(index.hasConflict(new Event("Weekend", "SU", 800, 900, "")));
+		assertEquals(0, index.getConflicts(arranged).size());
+
+		assertThrows(IllegalArgumentException.class, () -> index.add(meeting));
+		assertTrue(index.remove(lab));
+		assertFalse(index.remove(lab));
+		assertFalse(index.remove(arranged));
+		assertEquals(1, index.getConflicts(meeting).size());
+		assertTrue(index.remove(lecture));
+		index.add(meeting);
+		index.clear();
+		assertFalse(index.hasConflict(meeting));
+	}
+
+	/**
+	 * Tests that removing only removes the indexed activity, not an equal one.
+	 */
+	@Test
+	public void testRemoveEqualActivity() {
+		ConflictIndex index = new ConflictIndex();
+		Activity exercise = new Event("Exercise", "MTWHF", 800, 900, "");
+		index.add(exercise);
+		assertFalse(index.remove(new Event("Exercise", "MTWHF", 800, 900, "")));
+		assertTrue(index.hasConflict(exercise));
+	}
+
+	/**
+	 * Tests the index against checking every activity with checkConflict() for
+	 * randomly generated activities.
+	 */
+	@Test
+	public void testMatchesCheckConflict() {
+		Random random = new Random(216);
+		ConflictIndex index = new ConflictIndex();
+		ArrayList<Activity> indexed = new ArrayList<Activity>();
+		for (int i = 0; i < 2000; i++) {
+			Activity activity = randomEvent(random, i);
+			ArrayList<Activity> expected = new ArrayList<Activity>();
+			for (Activity other : indexed) {
+				try {
+					other.checkConflict(activity);
+				} catch (ConflictException e) {
+					expected.add(other);
+				}
+			}
+			ArrayList<Activity> conflicts = index.getConflicts(activity);
+			assertEquals(expected.size(), conflicts.size());
+			assertTrue(conflicts.containsAll(expected));
+			assertEquals(!expected.isEmpty(), index.hasConflict(activity));
+			if (expected.isEmpty()) {
+				index.add(activity);
+				indexed.add(activity);
+			} else if (random.nextInt(4) == 0) {
+				// make room by removing a conflicting activity
+				assertTrue(index.remove(expected.get(0)));
+				indexed.remove(expected.get(0));
+			}
+		}
+	}
+
+	/**
+	 * Returns an event on random days at a random time.
+	 * @param random source of the days and time
+	 * @param i number used in the title
+	 * @return a random event
+	 */
+	private static Event randomEvent(Random random, int i) {
+		StringBuilder days = new StringBuilder();
+		for (char day : "UMTWHFS".toCharArray()) {
+			if (random.nextInt(3) == 0) {
+				days.append(day);
+			}
+		}
+		if (days.length() == 0) {
+			days.append('M');
+		}
+		int start = random.nextInt(24) * 100 + random.nextInt(60);
+		int length = random.nextInt(180);
+		int endMinutes = Math.min(Activity.toMinutes(start) + length, Activity.MINUTES_PER_DAY - 1);
+		int end = endMinutes / 60 * 100 + endMinutes % 60;
+		return new Event("Event " + i, days.toString(), start, end, "");
+	}
+}
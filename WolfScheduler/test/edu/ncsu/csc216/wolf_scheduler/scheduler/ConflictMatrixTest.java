@@ -0,0 +1,113 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Tests ConflictMatrix.
+ * @author Brandon Wroblewski
+ */
+public class ConflictMatrixTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests the conflicts of the test catalog.
+	 * @throws FileNotFoundException if the catalog cannot be read
+	 */
+	@Test
+	public void testBuild() throws FileNotFoundException {
+		ArrayList<Course> catalog = CourseRecordIO.readCourseRecords(validTestFile);
+		ConflictMatrix matrix = ConflictMatrix.build(catalog);
+		assertEquals(catalog.size(), matrix.size());
+		assertMatchesConflictsWith(catalog, matrix);
+
+		int lab = matrix.indexOf("CSC 217", "202");
+		assertSame(catalog.get(lab), matrix.getSection(lab));
+		// CSC 217-202 meets M 10:40-12:30
+		ArrayList<Course> conflicting = matrix.getConflictingSections("CSC 217", "202");
+		assertEquals(3, conflicting.size());
+		assertEquals("CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100", conflicting.get(0).toString());
+		assertEquals("CSC 116,Intro to Programming - Java,002,3,spbalik,MW,1120,1310", conflicting.get(1).toString());
+		assertEquals("CSC 230,C and Software Tools,001,3,dbsturgi,MW,1145,1300", conflicting.get(2).toString());
+		assertEquals(4, matrix.getConflictCount(lab));
+		assertTrue(matrix.conflicts(lab, lab));
+
+		int arranged = matrix.indexOf("CSC 216", "601");
+		assertEquals(0, matrix.getConflictCount(arranged));
+		assertEquals(-1, matrix.indexOf("CSC 999", "001"));
+		assertEquals(0, matrix.getConflictingSections("CSC 999", "001").size());
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.conflicts(0, catalog.size()));
+
+		// the rows returned are copies
+		matrix.getConflicts(lab).clear();
+		assertEquals(4, matrix.getConflictCount(lab));
+		assertEquals(0, ConflictMatrix.build(new ArrayList<Course>()).size());
+	}
+
+	/**
+	 * Tests a large random catalog against checking every pair with conflictsWith().
+	 */
+	@Test
+	public void testBuildRandomCatalog() {
+		Random random = new Random(316);
+		ArrayList<Course> catalog = new ArrayList<Course>();
+		String[] dayChoices = {"M", "T", "W", "H", "F", "MW", "TH", "MWF", "MTWHF", "A"};
+		for (int i = 0; i < 1500; i++) {
+			String days = dayChoices[random.nextInt(dayChoices.length)];
+			String name = "CSC " + (100 + i / 10);
+			String section = String.format("%03d", i % 10);
+			if ("A".equals(days)) {
+				catalog.add(new Course(name, "Generated Course", section, 3, "instr", days));
+			} else {
+				int start = 800 + random.nextInt(10) * 100 + random.nextInt(4) * 15;
+				int endMinutes = Activity.toMinutes(start) + 50 + random.nextInt(2) * 25;
+				if (i % 100 == 0) {
+					// a few long meetings, which earlier sections must still be checked against
+					endMinutes = Math.min(Activity.toMinutes(start) + 600, Activity.MINUTES_PER_DAY - 1);
+				}
+				int end = endMinutes / 60 * 100 + endMinutes % 60;
+				catalog.add(new Course(name, "Generated Course", section, 3, "instr", days, start, end));
+			}
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ConflictMatrix matrix = ConflictMatrix.build(catalog, pool);
+			assertMatchesConflictsWith(catalog, matrix);
+			ConflictMatrix single = ConflictMatrix.build(catalog, new ForkJoinPool(1));
+			for (int i = 0; i < catalog.size(); i++) {
+				assertEquals(single.getConflicts(i), matrix.getConflicts(i));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Asserts that the matrix has a bit set exactly for the pairs of sections that
+	 * conflict according to conflictsWith().
+	 * @param catalog sections of the catalog
+	 * @param matrix the matrix built from the catalog
+	 */
+	private static void assertMatchesConflictsWith(ArrayList<Course> catalog, ConflictMatrix matrix) {
+		for (int i = 0; i < catalog.size(); i++) {
+			BitSet row = matrix.getConflicts(i);
+			for (int j = 0; j < catalog.size(); j++) {
+				assertEquals(catalog.get(i).conflictsWith(catalog.get(j)), row.get(j));
+				assertEquals(row.get(j), matrix.conflicts(i, j));
+			}
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseSnapshotIO;
+
+/**
+ * Tests CourseCatalog.
+ * @author Brandon Wroblewski
+ */
+public class CourseCatalogTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests reading a catalog both ways and looking up its sections.
+	 * @throws IOException if the catalog cannot be read
+	 */
+	@Test
+	public void testLoad() throws IOException {
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		CourseCatalog sequential = CourseCatalog.load(validTestFile, false);
+		CourseCatalog parallel = CourseCatalog.load(validTestFile, true);
+		assertEquals(expected.size(), sequential.size());
+		assertEquals(expected.size(), parallel.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), sequential.get(i));
+			assertEquals(expected.get(i), parallel.get(i));
+		}
+
+		Course course = sequential.getCourse("CSC 216", "001");
+		assertEquals("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445", course.toString());
+		assertNull(sequential.getCourse("CSC 216", "999"));
+		assertNull(sequential.getCourse("CSC 999", "001"));
+
+		String[][] rows = sequential.getCourseCatalog();
+		assertEquals(expected.size(), rows.length);
+		assertArrayEquals(expected.get(0).getShortDisplayArray(), rows[0]);
+		// each call returns rows the caller can change
+		rows[0][0] = "changed";
+		assertNotSame(rows, sequential.getCourseCatalog());
+		assertEquals(expected.get(0).getName(), sequential.getCourseCatalog()[0][0]);
+		for (int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(sequential.getCourseCatalog()[i], sequential.getCourseCatalogRow(i));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> sequential.getCourseCatalogRow(expected.size()));
+
+		assertThrows(FileNotFoundException.class, () -> CourseCatalog.load("test-files/no_such_file.txt", false));
+	}
+
+	/**
+	 * Tests that a catalog loaded with a snapshot directory is made from the
+	 * snapshot when it is current and from the file otherwise.
+	 * @throws IOException if the catalog or snapshot cannot be read or written
+	 */
+	@Test
+	public void testLoadSnapshot() throws IOException {
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		Path directory = Files.createTempDirectory("course_catalog");
+		Path snapshot = Paths.get(CourseSnapshotIO.getSnapshotFileName(directory.toString(), validTestFile));
+		try {
+			// the first load reads the file and makes the snapshot
+			CourseCatalog catalog = CourseCatalog.load(validTestFile, false, directory.toString());
+			assertEquals(expected.size(), catalog.size());
+			assertTrue(Files.exists(snapshot));
+			assertEquals(expected, CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile));
+
+			// later loads read the snapshot, here one holding only two sections
+			CourseSnapshotIO.writeSnapshot(snapshot.toString(), validTestFile, new ArrayList<Course>(expected.subList(0, 2)));
+			catalog = CourseCatalog.load(validTestFile, true, directory.toString());
+			assertEquals(2, catalog.size());
+			assertEquals(expected.get(1), catalog.getCourse(expected.get(1).getName(), expected.get(1).getSection()));
+			assertTrue(catalog.get(0).isFrozen());
+
+			// a damaged snapshot falls back to the file
+			Files.write(snapshot, new byte[3]);
+			assertEquals(expected.size(), CourseCatalog.load(validTestFile, false, directory.toString()).size());
+			assertEquals(expected, CourseSnapshotIO.readSnapshot(snapshot.toString(), validTestFile));
+		} finally {
+			Files.deleteIfExists(snapshot);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Tests that a catalog is not changed through the list it was made from or
+	 * the lists it returns.
+	 */
+	@Test
+	public void testUnchanging() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445));
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "jdyoung2", "MW", 1330, 1445));
+		CourseCatalog catalog = new CourseCatalog(courses);
+		courses.clear();
+		assertEquals(2, catalog.size());
+		// the first of two sections with the same name and section is looked up
+		assertEquals("sesmith5", catalog.getCourse("CSC 216", "001").getInstructorId());
+
+		catalog.getCourses().clear();
+		assertEquals(2, catalog.size());
+		assertEquals(0, new CourseCatalog(courses).getCourseCatalog().length);
+
+		// the sections are frozen, so the index, rows, and search index stay right
+		Course course = catalog.getCourse("CSC 216", "001");
+		assertTrue(course.isFrozen());
+		assertThrows(IllegalStateException.class, () -> course.setSection("002"));
+		assertThrows(IllegalStateException.class, () -> course.setCredits(4));
+		assertThrows(IllegalStateException.class, () -> course.setInstructorId("jtking"));
+		assertThrows(IllegalStateException.class, () -> course.setTitle("Data Structures"));
+		assertThrows(IllegalStateException.class, () -> course.setMeetingDaysAndTime("MW", 800, 915));
+		assertThrows(IllegalStateException.class, () -> catalog.get(1).setSection("002"));
+		assertEquals(course, catalog.getCourse("CSC 216", "001"));
+		assertArrayEquals(new String[] {"CSC 216", "001", "Software Development Fundamentals", "TH 1:30PM-2:45PM"},
+				catalog.getCourseCatalogRow(0));
+	}
+
+}
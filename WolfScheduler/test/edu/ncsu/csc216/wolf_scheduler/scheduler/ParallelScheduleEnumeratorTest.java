@@ -0,0 +1,109 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests ParallelScheduleEnumerator.
+ * @author Brandon Wroblewski
+ */
+public class ParallelScheduleEnumeratorTest {
+
+	/**
+	 * Tests that a parallel run finds the same schedules as the sequential generator.
+	 */
+	@Test
+	public void testCollect() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Random random = new Random(217);
+			for (int trial = 0; trial < 10; trial++) {
+				ScheduleGenerator generator = randomGenerator(random, 6, 8);
+				HashSet<String> expected = new HashSet<String>();
+				for (ArrayList<Course> schedule : generator) {
+					expected.add(schedule.toString());
+				}
+				ParallelScheduleEnumerator enumerator = new ParallelScheduleEnumerator(generator);
+				ArrayList<ArrayList<Course>> schedules = enumerator.collect(pool, Integer.MAX_VALUE);
+				HashSet<String> actual = new HashSet<String>();
+				for (ArrayList<Course> schedule : schedules) {
+					assertTrue(actual.add(schedule.toString()));
+				}
+				assertEquals(expected, actual);
+				assertEquals(expected.size(), enumerator.getSchedulesFound());
+				assertTrue(enumerator.getNodesVisited() >= expected.size());
+				assertFalse(enumerator.isCancelled());
+				assertThrows(IllegalStateException.class, () -> enumerator.collect(pool, 1));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that a run stops at its limit and when cancelled.
+	 */
+	@Test
+	public void testLimitAndCancel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ScheduleGenerator generator = randomGenerator(new Random(316), 10, 30);
+			for (int limit : new int[] {0, 1, 777, 5000}) {
+				ParallelScheduleEnumerator enumerator = new ParallelScheduleEnumerator(generator);
+				assertEquals(limit, enumerator.collect(pool, limit).size());
+				assertEquals(limit, enumerator.getSchedulesFound());
+			}
+			assertThrows(IllegalArgumentException.class, () -> new ParallelScheduleEnumerator(generator).collect(pool, -1));
+
+			// cancel from inside the run, which otherwise finds billions of schedules
+			ParallelScheduleEnumerator enumerator = new ParallelScheduleEnumerator(generator);
+			AtomicInteger seen = new AtomicInteger();
+			long found = enumerator.forEach(pool, Long.MAX_VALUE, schedule -> {
+				if (seen.incrementAndGet() == 1000) {
+					enumerator.cancel();
+				}
+			});
+			assertTrue(enumerator.isCancelled());
+			assertTrue(found >= 1000);
+			assertEquals(seen.get(), found);
+
+			ParallelScheduleEnumerator early = new ParallelScheduleEnumerator(generator);
+			early.cancel();
+			assertEquals(0, early.collect(pool, 10).size());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Returns a generator for a catalog of random sections.
+	 * @param random source of the days and times
+	 * @param courses number of courses
+	 * @param sections number of sections of each course
+	 * @return a generator taking one section of every course
+	 */
+	private static ScheduleGenerator randomGenerator(Random random, int courses, int sections) {
+		String[] dayChoices = {"M", "T", "W", "H", "F", "MW", "TH", "MWF"};
+		ArrayList<Course> catalog = new ArrayList<Course>();
+		ArrayList<String> names = new ArrayList<String>();
+		for (int c = 0; c < courses; c++) {
+			String name = "CSC " + (100 + c);
+			names.add(name);
+			for (int s = 0; s < sections; s++) {
+				int start = 800 + random.nextInt(10) * 100;
+				catalog.add(new Course(name, "Generated Course", String.format("%03d", s + 1), 3, "instr",
+						dayChoices[random.nextInt(dayChoices.length)], start, start + (random.nextBoolean() ? 50 : 115)));
+			}
+		}
+		return new ScheduleGenerator(catalog, names);
+	}
+}
@@ -0,0 +1,220 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Tests ScheduleGenerator.
+ * @author Brandon Wroblewski
+ */
+public class ScheduleGeneratorTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests generating schedules from the test catalog.
+	 * @throws FileNotFoundException if the catalog cannot be read
+	 */
+	@Test
+	public void testGenerate() throws FileNotFoundException {
+		ArrayList<Course> catalog = CourseRecordIO.readCourseRecords(validTestFile);
+		ScheduleGenerator generator = new ScheduleGenerator(catalog, names("CSC 216", "CSC 217", "CSC 230"));
+		ArrayList<ArrayList<Course>> schedules = generator.generate(100);
+		assertEquals(bruteForce(catalog, names("CSC 216", "CSC 217", "CSC 230"), new ArrayList<Activity>()), toStrings(schedules));
+		assertEquals(schedules.size(), generator.count());
+		for (ArrayList<Course> schedule : schedules) {
+			// in the order the courses were given
+			assertEquals("CSC 216", schedule.get(0).getName());
+			assertEquals("CSC 217", schedule.get(1).getName());
+			assertEquals("CSC 230", schedule.get(2).getName());
+		}
+		assertEquals(2, generator.generate(2).size());
+		assertEquals(0, generator.generate(0).size());
+		assertThrows(IllegalArgumentException.class, () -> generator.generate(-1));
+
+		// a course that is not in the catalog has no sections
+		assertEquals(0, new ScheduleGenerator(catalog, names("CSC 216", "CSC 999")).count());
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleGenerator(catalog, names("CSC 216", "CSC 216")));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleGenerator(catalog, names("CSC 216", null)));
+	}
+
+	/**
+	 * Tests that schedules avoid the fixed activities, and the iterator and stream.
+	 * @throws FileNotFoundException if the catalog cannot be read
+	 */
+	@Test
+	public void testFixedActivities() throws FileNotFoundException {
+		ArrayList<Course> catalog = CourseRecordIO.readCourseRecords(validTestFile);
+		ArrayList<Activity> fixed = new ArrayList<Activity>();
+		fixed.add(new Event("Exercise", "MW", 800, 1000, ""));
+		fixed.add(catalog.get(catalog.size() - 1));
+		ArrayList<String> courses = names("CSC 116", "CSC 226", "CSC 316");
+		ScheduleGenerator generator = new ScheduleGenerator(catalog, courses, fixed);
+		// CSC 316 is already scheduled and CSC 226 meets during the exercise
+		assertEquals(0, generator.count());
+		Iterator<ArrayList<Course>> it = generator.iterator();
+		assertFalse(it.hasNext());
+		assertThrows(NoSuchElementException.class, () -> it.next());
+
+		courses = names("CSC 116", "CSC 216");
+		generator = new ScheduleGenerator(catalog, courses, fixed);
+		assertEquals(bruteForce(catalog, courses, fixed), toStrings(generator.generate(100)));
+		assertEquals(generator.count(), generator.stream().count());
+		for (ArrayList<Course> schedule : generator) {
+			// CSC 116-001 meets during the exercise
+			assertNotEquals("001", schedule.get(0).getSection());
+		}
+		assertEquals(1, new ScheduleGenerator(catalog, names()).count());
+	}
+
+	/**
+	 * Tests random catalogs against trying every combination of sections.
+	 */
+	@Test
+	public void testMatchesBruteForce() {
+		Random random = new Random(226);
+		for (int trial = 0; trial < 20; trial++) {
+			ArrayList<Course> catalog = randomCatalog(random, 5, 6);
+			ArrayList<String> courses = new ArrayList<String>();
+			for (int c = 0; c < 5; c++) {
+				courses.add("CSC " + (100 + c));
+			}
+			ScheduleGenerator generator = new ScheduleGenerator(catalog, courses);
+			assertEquals(bruteForce(catalog, courses, new ArrayList<Activity>()), toStrings(generator.generate(Integer.MAX_VALUE)));
+		}
+	}
+
+	/**
+	 * Tests a wishlist of ten courses with thirty sections each.
+	 */
+	@Test
+	public void testLargeWishlist() {
+		ArrayList<Course> catalog = randomCatalog(new Random(116), 10, 30);
+		ArrayList<String> courses = new ArrayList<String>();
+		for (int c = 0; c < 10; c++) {
+			courses.add("CSC " + (100 + c));
+		}
+		ScheduleGenerator generator = new ScheduleGenerator(catalog, courses);
+		ArrayList<ArrayList<Course>> schedules = generator.generate(10000);
+		assertEquals(10000, schedules.size());
+		HashSet<String> distinct = new HashSet<String>();
+		for (ArrayList<Course> schedule : schedules) {
+			assertEquals(10, schedule.size());
+			for (int i = 0; i < schedule.size(); i++) {
+				for (int j = i + 1; j < schedule.size(); j++) {
+					assertFalse(schedule.get(i).conflictsWith(schedule.get(j)));
+				}
+			}
+			assertTrue(distinct.add(schedule.toString()));
+		}
+	}
+
+	/**
+	 * Returns a catalog of timed and arranged sections of several courses.
+	 * @param random source of the days and times
+	 * @param courses number of courses
+	 * @param sections number of sections of each course
+	 * @return the catalog
+	 */
+	private static ArrayList<Course> randomCatalog(Random random, int courses, int sections) {
+		String[] dayChoices = {"M", "T", "W", "H", "F", "MW", "TH", "MWF"};
+		ArrayList<Course> catalog = new ArrayList<Course>();
+		for (int c = 0; c < courses; c++) {
+			for (int s = 0; s < sections; s++) {
+				String name = "CSC " + (100 + c);
+				String section = String.format("%03d", s + 1);
+				if (random.nextInt(10) == 0) {
+					catalog.add(new Course(name, "Generated Course", section, 3, "instr", "A"));
+				} else {
+					int start = 800 + random.nextInt(10) * 100;
+					catalog.add(new Course(name, "Generated Course", section, 3, "instr",
+							dayChoices[random.nextInt(dayChoices.length)], start, start + (random.nextBoolean() ? 50 : 115)));
+				}
+			}
+		}
+		return catalog;
+	}
+
+	/**
+	 * Finds every schedule by trying every combination of sections.
+	 * @param catalog sections to choose from
+	 * @param courses names of the courses
+	 * @param fixed activities the schedules must not conflict with or duplicate
+	 * @return every schedule as a sorted set of strings
+	 */
+	private static HashSet<String> bruteForce(ArrayList<Course> catalog, ArrayList<String> courses, ArrayList<Activity> fixed) {
+		HashSet<String> schedules = new HashSet<String>();
+		bruteForce(catalog, courses, fixed, new ArrayList<Course>(), schedules);
+		return schedules;
+	}
+
+	/**
+	 * Adds every schedule extending a partial schedule.
+	 * @param catalog sections to choose from
+	 * @param courses names of the courses
+	 * @param fixed activities the schedules must not conflict with or duplicate
+	 * @param partial sections chosen for the first courses
+	 * @param schedules the schedules found
+	 */
+	private static void bruteForce(ArrayList<Course> catalog, ArrayList<String> courses, ArrayList<Activity> fixed,
+			ArrayList<Course> partial, HashSet<String> schedules) {
+		if (partial.size() == courses.size()) {
+			schedules.add(partial.toString());
+			return;
+		}
+		for (Course c : catalog) {
+			if (!c.getName().equals(courses.get(partial.size()))) {
+				continue;
+			}
+			boolean ok = true;
+			for (Course p : partial) {
+				ok &= !p.conflictsWith(c);
+			}
+			for (Activity f : fixed) {
+				ok &= !f.conflictsWith(c) && !f.isDuplicate(c);
+			}
+			if (ok) {
+				partial.add(c);
+				bruteForce(catalog, courses, fixed, partial, schedules);
+				partial.remove(partial.size() - 1);
+			}
+		}
+	}
+
+	/**
+	 * Converts schedules to strings, checking that none repeat.
+	 * @param schedules the schedules
+	 * @return the schedules as strings
+	 */
+	private static HashSet<String> toStrings(ArrayList<ArrayList<Course>> schedules) {
+		HashSet<String> strings = new HashSet<String>();
+		for (ArrayList<Course> schedule : schedules) {
+			assertTrue(strings.add(schedule.toString()));
+		}
+		return strings;
+	}
+
+	/**
+	 * Returns a list of course names.
+	 * @param names the names
+	 * @return the names as a list
+	 */
+	private static ArrayList<String> names(String... names) {
+		return new ArrayList<String>(Arrays.asList(names));
+	}
+}
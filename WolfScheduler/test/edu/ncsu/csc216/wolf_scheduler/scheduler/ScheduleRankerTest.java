@@ -0,0 +1,94 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests ScheduleRanker.
+ * @author Brandon Wroblewski
+ */
+public class ScheduleRankerTest {
+
+	/**
+	 * Tests keeping the best schedules, with ties in the order offered.
+	 */
+	@Test
+	public void testOffer() {
+		// scores each schedule by its number of courses
+		ScheduleRanker<Course> ranker = new ScheduleRanker<Course>(schedule -> schedule.size(), 3);
+		Course c = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A");
+		ArrayList<ArrayList<Course>> offered = new ArrayList<ArrayList<Course>>();
+		for (int size : new int[] {1, 4, 2, 4, 3, 0, 5}) {
+			ArrayList<Course> schedule = new ArrayList<Course>();
+			for (int i = 0; i < size; i++) {
+				schedule.add(c);
+			}
+			offered.add(schedule);
+		}
+		assertTrue(ranker.offer(offered.get(0)));
+		assertTrue(ranker.offer(offered.get(1)));
+		assertTrue(ranker.offer(offered.get(2)));
+		assertTrue(ranker.offer(offered.get(3)));
+		assertTrue(ranker.offer(offered.get(4)));
+		assertFalse(ranker.offer(offered.get(5)));
+		assertTrue(ranker.offer(offered.get(6)));
+		ArrayList<ArrayList<Course>> top = ranker.getTopSchedules();
+		assertEquals(3, top.size());
+		assertSame(offered.get(6), top.get(0));
+		assertSame(offered.get(1), top.get(1));
+		assertSame(offered.get(3), top.get(2));
+		assertArrayEquals(new double[] {5, 4, 4}, ranker.getTopScores());
+		assertEquals(7, ranker.getOfferedCount());
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleRanker<Course>(schedule -> 0, 0));
+	}
+
+	/**
+	 * Tests ranking the schedules of a parallel enumeration against sorting all of them.
+	 */
+	@Test
+	public void testRankEnumeration() {
+		Random random = new Random(230);
+		String[] dayChoices = {"M", "T", "W", "H", "F", "MW", "TH", "MWF"};
+		ArrayList<Course> catalog = new ArrayList<Course>();
+		ArrayList<String> names = new ArrayList<String>();
+		for (int c = 0; c < 5; c++) {
+			names.add("CSC " + (100 + c));
+			for (int s = 0; s < 8; s++) {
+				int start = 800 + random.nextInt(10) * 100;
+				catalog.add(new Course("CSC " + (100 + c), "Generated Course", String.format("%03d", s + 1), 3, "instr" + s,
+						dayChoices[random.nextInt(dayChoices.length)], start, start + 50));
+			}
+		}
+		ScheduleScorer scorer = ScheduleScorer.compactness().plus(ScheduleScorer.fewestDays().times(60))
+				.plus(ScheduleScorer.preferredInstructors(Arrays.asList("instr1")).times(30));
+		ScheduleGenerator generator = new ScheduleGenerator(catalog, names);
+
+		ArrayList<Double> all = new ArrayList<Double>();
+		for (ArrayList<Course> schedule : generator) {
+			all.add(scorer.score(schedule));
+		}
+		all.sort((a, b) -> Double.compare(b, a));
+
+		ScheduleRanker<Course> ranker = new ScheduleRanker<Course>(scorer, 10);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			new ParallelScheduleEnumerator(generator).forEach(pool, Long.MAX_VALUE, ranker::offer);
+		} finally {
+			pool.shutdown();
+		}
+		double[] top = ranker.getTopScores();
+		assertEquals(Math.min(10, all.size()), top.length);
+		for (int i = 0; i < top.length; i++) {
+			assertEquals(all.get(i), top[i]);
+		}
+		assertEquals(all.size(), ranker.getOfferedCount());
+	}
+}
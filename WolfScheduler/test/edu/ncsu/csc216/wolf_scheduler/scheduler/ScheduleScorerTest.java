@@ -0,0 +1,63 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests ScheduleScorer.
+ * @author Brandon Wroblewski
+ */
+public class ScheduleScorerTest {
+
+	/**
+	 * Returns a schedule of two courses, an event, and an arranged course.
+	 * @return the schedule
+	 */
+	private static ArrayList<Activity> schedule() {
+		ArrayList<Activity> schedule = new ArrayList<Activity>();
+		schedule.add(new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW", 1330, 1445));
+		schedule.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		schedule.add(new Event("Lunch", "MTWHF", 1200, 1300, ""));
+		schedule.add(new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A"));
+		return schedule;
+	}
+
+	/**
+	 * Tests each built-in scorer.
+	 */
+	@Test
+	public void testScorers() {
+		ArrayList<Activity> schedule = schedule();
+		// 11:00-12:00 and 1:00-1:30 on Monday and Wednesday
+		assertEquals(-180, ScheduleScorer.compactness().score(schedule));
+		assertEquals(9 * 60 + 10, ScheduleScorer.latestStart().score(schedule));
+		assertEquals(-5, ScheduleScorer.fewestDays().score(schedule));
+		assertEquals(2, ScheduleScorer.preferredInstructors(Arrays.asList("ixdoming", "sesmith5")).score(schedule));
+
+		ArrayList<Activity> empty = new ArrayList<Activity>();
+		assertEquals(0, ScheduleScorer.compactness().score(empty));
+		assertEquals(Activity.MINUTES_PER_DAY, ScheduleScorer.latestStart().score(empty));
+		assertEquals(0, ScheduleScorer.fewestDays().score(empty));
+	}
+
+	/**
+	 * Tests weighting and adding scorers.
+	 */
+	@Test
+	public void testCombine() {
+		ArrayList<Activity> schedule = schedule();
+		ScheduleScorer scorer = ScheduleScorer.compactness().plus(ScheduleScorer.fewestDays().times(60));
+		assertEquals(-180 - 300, scorer.score(schedule));
+		assertEquals(-(9 * 60 + 10), ScheduleScorer.latestStart().times(-1).score(schedule));
+		ScheduleScorer custom = s -> s.size();
+		assertEquals(8, custom.plus(custom).score(schedule));
+	}
+}
@@ -0,0 +1,122 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests SectionSeats.
+ * @author Brandon Wroblewski
+ */
+public class SectionSeatsTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests taking and releasing seats and joining and leaving the waitlist.
+	 */
+	@Test
+	public void testEnrollment() {
+		SectionSeats seats = new SectionSeats();
+		assertEquals(SectionSeats.UNLIMITED_CAPACITY, seats.getCapacity());
+		assertThrows(IllegalArgumentException.class, () -> seats.setCapacity(-1));
+		seats.setCapacity(2);
+		assertEquals(2, seats.getOpenSeats());
+		assertTrue(seats.tryEnroll());
+		assertTrue(seats.tryEnroll());
+		assertFalse(seats.tryEnroll());
+		assertEquals(2, seats.getEnrolled());
+		assertEquals(0, seats.getOpenSeats());
+
+		// lowering the capacity keeps the seats taken
+		seats.setCapacity(1);
+		assertEquals(0, seats.getOpenSeats());
+		seats.releaseSeat();
+		assertFalse(seats.tryEnroll());
+		seats.releaseSeat();
+		assertThrows(IllegalStateException.class, () -> seats.releaseSeat());
+		assertTrue(seats.tryEnroll());
+
+		assertEquals(1, seats.joinWaitlist());
+		assertEquals(2, seats.joinWaitlist());
+		seats.leaveWaitlist();
+		assertEquals(1, seats.getWaitlisted());
+		seats.leaveWaitlist();
+		assertThrows(IllegalStateException.class, () -> seats.leaveWaitlist());
+	}
+
+	/**
+	 * Tests that each catalog counts the seats of its own sections.
+	 * @throws IOException if the catalog cannot be read
+	 */
+	@Test
+	public void testSeatsPerCatalog() throws IOException {
+		CourseCatalog catalog = CourseCatalog.load(validTestFile, false);
+		CourseCatalog other = CourseCatalog.load(validTestFile, false);
+		Course course = catalog.getCourse("CSC 216", "001");
+		assertSame(catalog.getSeats(course), catalog.getSeats(catalog.getCourse("CSC 216", "001")));
+		assertNotSame(catalog.getSeats(course), other.getSeats(course));
+
+		catalog.getSeats(course).setCapacity(1);
+		assertTrue(new WolfScheduler(catalog).addCourseToSchedule("CSC 216", "001"));
+		assertTrue(new WolfScheduler(other).addCourseToSchedule("CSC 216", "001"));
+		assertEquals(1, catalog.getSeats(course).getEnrolled());
+		assertEquals(1, other.getSeats(course).getEnrolled());
+		assertEquals(0, catalog.getSeats(catalog.getCourse("CSC 216", "002")).getEnrolled());
+	}
+
+	/**
+	 * Tests that threads taking seats at once never take more than the capacity.
+	 * @throws Exception if a thread fails
+	 */
+	@Test
+	public void testConcurrentEnrollment() throws Exception {
+		SectionSeats seats = new SectionSeats();
+		seats.setCapacity(150);
+		int threads = 4;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			ArrayList<Future<Integer>> results = new ArrayList<Future<Integer>>();
+			for (int t = 0; t < threads; t++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					int taken = 0;
+					for (int i = 0; i < 1000; i++) {
+						if (seats.tryEnroll()) {
+							taken++;
+						}
+						// give some seats back to make the threads race for them again,
+						// then fill the section
+						if (i < 900 && i % 3 == 0 && taken > 0) {
+							seats.releaseSeat();
+							taken--;
+						}
+					}
+					return taken;
+				}));
+			}
+			start.countDown();
+			int taken = 0;
+			for (Future<Integer> result : results) {
+				taken += result.get();
+			}
+			assertEquals(150, taken);
+			assertEquals(150, seats.getEnrolled());
+			assertFalse(seats.tryEnroll());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
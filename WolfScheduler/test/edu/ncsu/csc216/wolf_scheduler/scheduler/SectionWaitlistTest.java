@@ -0,0 +1,135 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests SectionWaitlist.
+ * @author Brandon Wroblewski
+ */
+public class SectionWaitlistTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests that a freed seat goes to the first waiting session it still fits.
+	 * @throws IOException if the catalog cannot be read
+	 */
+	@Test
+	public void testPromoteInOrder() throws IOException {
+		CourseCatalog catalog = CourseCatalog.load(validTestFile, false);
+		Course course = catalog.getCourse("CSC 216", "001");
+		SectionSeats seats = catalog.getSeats(course);
+		seats.setCapacity(1);
+		SectionWaitlist waitlist = catalog.getWaitlist(course);
+		assertSame(waitlist, catalog.getWaitlist(course));
+		assertSame(course, waitlist.getCourse());
+
+		WolfScheduler holder = new WolfScheduler(catalog);
+		assertTrue(holder.addCourseToSchedule("CSC 216", "001"));
+		WolfScheduler first = new WolfScheduler(catalog);
+		WolfScheduler second = new WolfScheduler(catalog);
+		WolfScheduler third = new WolfScheduler(catalog);
+		waitlist.join(first);
+		waitlist.join(second);
+		waitlist.join(third);
+		assertEquals(3, waitlist.size());
+		assertEquals(3, seats.getWaitlisted());
+
+		// a full section promotes no one
+		waitlist.promote();
+		assertEquals(3, waitlist.size());
+
+		// the first session no longer fits the section when the seat is freed
+		first.addEventToSchedule("Meeting", "TH", 1400, 1500, "");
+		assertTrue(holder.removeActivityFromSchedule(0));
+		assertEquals(1, first.getScheduledActivities().length);
+		assertEquals("CSC 216", second.getScheduledActivities()[0][0]);
+		assertEquals(0, third.getScheduledActivities().length);
+		assertFalse(waitlist.contains(first));
+		assertFalse(waitlist.contains(second));
+		assertTrue(waitlist.contains(third));
+		assertEquals(1, seats.getWaitlisted());
+		assertEquals(1, seats.getEnrolled());
+		assertEquals(1, waitlist.getPromotedCount());
+
+		assertTrue(waitlist.leave(third));
+		assertFalse(waitlist.leave(third));
+		assertEquals(0, seats.getWaitlisted());
+
+		// a seat no one waiting can take is released
+		WolfScheduler busy = new WolfScheduler(catalog);
+		busy.addEventToSchedule("Meeting", "TH", 1400, 1500, "");
+		waitlist.join(busy);
+		second.resetSchedule();
+		assertEquals(0, seats.getEnrolled());
+		assertEquals(0, waitlist.size());
+		assertEquals(1, busy.getScheduledActivities().length);
+	}
+
+	/**
+	 * Tests that a burst of seats freed from several threads at once goes to the
+	 * sessions that have waited longest, one seat each.
+	 * @throws Exception if a thread fails
+	 */
+	@Test
+	public void testConcurrentDrops() throws Exception {
+		CourseCatalog catalog = CourseCatalog.load(validTestFile, false);
+		Course course = catalog.getCourse("CSC 216", "001");
+		int seats = 12;
+		SectionSeats counts = catalog.getSeats(course);
+		counts.setCapacity(seats);
+		SectionWaitlist waitlist = catalog.getWaitlist(course);
+
+		ArrayList<WolfScheduler> holders = new ArrayList<WolfScheduler>();
+		for (int i = 0; i < seats; i++) {
+			WolfScheduler holder = new WolfScheduler(catalog);
+			assertTrue(holder.addCourseToSchedule("CSC 216", "001"));
+			holders.add(holder);
+		}
+		ArrayList<WolfScheduler> waiting = new ArrayList<WolfScheduler>();
+		for (int i = 0; i < 3 * seats; i++) {
+			WolfScheduler session = new WolfScheduler(catalog);
+			assertTrue(session.joinWaitlist("CSC 216", "001"));
+			waiting.add(session);
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			ArrayList<Future<Boolean>> drops = new ArrayList<Future<Boolean>>();
+			for (WolfScheduler holder : holders) {
+				drops.add(pool.submit(() -> {
+					start.await();
+					return holder.removeActivityFromSchedule(0);
+				}));
+			}
+			start.countDown();
+			for (Future<Boolean> drop : drops) {
+				assertTrue(drop.get());
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		for (int i = 0; i < waiting.size(); i++) {
+			assertEquals(i < seats ? 1 : 0, waiting.get(i).getScheduledActivities().length);
+		}
+		assertEquals(seats, counts.getEnrolled());
+		assertEquals(2 * seats, counts.getWaitlisted());
+		assertEquals(2 * seats, waitlist.size());
+		assertEquals(seats, waitlist.getPromotedCount());
+	}
+
+}
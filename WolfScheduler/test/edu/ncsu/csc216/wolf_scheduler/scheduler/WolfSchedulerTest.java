@@ -7,13 +7,23 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
 
 /**
  * Tests the WolfScheduler class.
@@ -90,6 +100,19 @@ public class WolfSchedulerTest {
 		assertEquals(13, ws2.getCourseCatalog().length);		
 	}
 	
+	/**
+	 * Tests WolfScheduler() reading the catalog in parallel.
+	 */
+	@Test
+	public void testWolfSchedulerParallelLoad() {
+		WolfScheduler ws1 = new WolfScheduler(invalidTestFile, true);
+		assertEquals(0, ws1.getCourseCatalog().length);
+		
+		WolfScheduler ws2 = new WolfScheduler(validTestFile, true);
+		assertArrayEquals(new WolfScheduler(validTestFile).getCourseCatalog(), ws2.getCourseCatalog());
+		assertNotNull(ws2.getCourseFromCatalog(NAME, SECTION));
+	}
+	
 	/**
 	 * Test WolfScheduler.getCourseFromCatalog().
 	 */
@@ -105,6 +128,48 @@ public class WolfSchedulerTest {
 		assertEquals(c, ws.getCourseFromCatalog("CSC 216", "001"));
 	}
 	
+	/**
+	 * Test WolfScheduler.getCourseFromCatalog() against a generated catalog with
+	 * many sections of many courses so that every entry in the index is checked.
+	 * @throws IOException if the generated catalog cannot be written
+	 */
+	@Test
+	public void testGetCourseFromLargeCatalog() throws IOException {
+		Path catalogFile = Files.createTempFile("large_course_records", ".txt");
+		try {
+			try (PrintStream out = new PrintStream(catalogFile.toFile())) {
+				for (int i = 0; i < 20; i++) {
+					for (int j = 0; j < 100; j++) {
+						out.println(generatedName(i) + ",Generated Course," + String.format("%03d", j) + ",3,instr,MW,800,915");
+					}
+				}
+			}
+			WolfScheduler ws = new WolfScheduler(catalogFile.toString());
+			assertEquals(2000, ws.getCourseCatalog().length);
+			for (int i = 0; i < 20; i++) {
+				for (int j = 0; j < 100; j++) {
+					Course c = ws.getCourseFromCatalog(generatedName(i), String.format("%03d", j));
+					assertNotNull(c);
+					assertEquals(generatedName(i), c.getName());
+					assertEquals(String.format("%03d", j), c.getSection());
+				}
+			}
+			assertNull(ws.getCourseFromCatalog(generatedName(20), "000"));
+			assertNull(ws.getCourseFromCatalog(generatedName(0), "100"));
+		} finally {
+			Files.deleteIfExists(catalogFile);
+		}
+	}
+	
+	/**
+	 * Returns a valid course name for a generated catalog.
+	 * @param i index of the course
+	 * @return a unique course name for the index
+	 */
+	private static String generatedName(int i) {
+		return "GEN " + String.format("%03d", i);
+	}
+	
 	/**
 	 * Test WolfScheduler.addCourse().
 	 */
@@ -306,6 +371,19 @@ public class WolfSchedulerTest {
 		assertEquals("CSC 316", catalog[12][0]);
 		assertEquals("001", catalog[12][1]);
 		assertEquals("Data Structures and Algorithms", catalog[12][2]);
+
+		// the catalog can also be read a row at a time
+		assertEquals(catalog.length, ws.getCatalogSize());
+		for (int i = 0; i < catalog.length; i++) {
+			assertArrayEquals(catalog[i], ws.getCatalogRow(i));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> ws.getCatalogRow(-1));
+		
+		//Search the catalog
+		assertArrayEquals(new int[] {3, 4, 5}, ws.searchCatalog("csc 216"));
+		assertArrayEquals(new int[] {6, 7, 8, 9}, ws.searchCatalog("fundamentals lab"));
+		assertEquals(13, ws.searchCatalog("").length);
+		assertEquals(0, ws.searchCatalog("CSC 999").length);
 	}
 	
 	/**
@@ -483,4 +561,475 @@ public class WolfSchedulerTest {
 	    }
 	}
 
+	/**
+	 * Tests that when an activity is both a duplicate of and in conflict with
+	 * scheduled activities, the one added first decides the message.
+	 */
+	@Test
+	public void testDuplicateAndConflictMessage() {
+	    WolfScheduler ws = new WolfScheduler(validTestFile);
+	    ws.addEventToSchedule("Gym", "MW", 1300, 1400, "");
+	    ws.addEventToSchedule("Lunch", "TH", 1300, 1400, "");
+
+	    // a duplicate of Lunch that conflicts with Gym, which was added first
+	    Exception e1 = assertThrows(IllegalArgumentException.class, () -> ws.addEventToSchedule("Lunch", "MW", 1330, 1430, ""));
+	    assertEquals("The event cannot be added due to a conflict.", e1.getMessage());
+	    // a duplicate of Gym that conflicts with Lunch, which was added later
+	    Exception e2 = assertThrows(IllegalArgumentException.class, () -> ws.addEventToSchedule("Gym", "TH", 1330, 1430, ""));
+	    assertEquals("You have already created an event called Gym", e2.getMessage());
+
+	    // once Gym is removed Lunch is first, and the same event is only a duplicate
+	    assertTrue(ws.removeActivityFromSchedule(0));
+	    Exception e3 = assertThrows(IllegalArgumentException.class, () -> ws.addEventToSchedule("Lunch", "MW", 1330, 1430, ""));
+	    assertEquals("You have already created an event called Lunch", e3.getMessage());
+	    ws.addEventToSchedule("Gym", "MW", 1300, 1400, "");
+	    assertEquals(2, ws.getScheduledActivities().length);
+	}
+
+	/**
+	 * Tests getConflictingActivities() and that removing and resetting the schedule
+	 * also removes activities from conflict checks.
+	 */
+	@Test
+	public void testGetConflictingActivities() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertTrue(ws.addCourseToSchedule("CSC 217", "202"));
+		assertTrue(ws.addCourseToSchedule("CSC 216", "002"));
+
+		Activity meeting = new Event("Meeting", "MW", 1200, 1330, "Important meeting");
+		ArrayList<Activity> conflicts = ws.getConflictingActivities(meeting);
+		assertEquals(2, conflicts.size());
+		assertEquals("CSC 217", ((Course) conflicts.get(0)).getName());
+		assertEquals("CSC 216", ((Course) conflicts.get(1)).getName());
+
+		// a duplicate before a conflict in the schedule is reported as a duplicate
+		Exception e = assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule("CSC 217", "211"));
+		assertEquals("You are already enrolled in CSC 217", e.getMessage());
+		assertFalse(ws.addCourseToSchedule("CSC 999", "001"));
+
+		assertTrue(ws.removeActivityFromSchedule(0));
+		assertEquals(1, ws.getConflictingActivities(meeting).size());
+		ws.resetSchedule();
+		assertEquals(0, ws.getConflictingActivities(meeting).size());
+		ws.addEventToSchedule("Meeting", "MW", 1200, 1330, "Important meeting");
+		assertEquals(1, ws.getScheduledActivities().length);
+	}
+
+	/**
+	 * Tests that sessions created from several threads share one catalog without
+	 * reading the course records again, and keep their own schedules and titles.
+	 * @throws Exception if the catalog cannot be copied or a session fails
+	 */
+	@Test
+	public void testSessionsShareCatalog() throws Exception {
+		// the sessions must not need the file once the catalog is read
+		Path copy = Files.createTempFile("course_records", ".txt");
+		Files.copy(FileSystems.getDefault().getPath(validTestFile), copy, StandardCopyOption.REPLACE_EXISTING);
+		WolfScheduler first = new WolfScheduler(copy.toString());
+		Files.delete(copy);
+		CourseCatalog catalog = first.getCatalog();
+		assertThrows(IllegalArgumentException.class, () -> new WolfScheduler((CourseCatalog) null));
+
+		String[] sections = {"001", "002", "003"};
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			ArrayList<Future<WolfScheduler>> sessions = new ArrayList<Future<WolfScheduler>>();
+			for (int i = 0; i < 12; i++) {
+				String section = sections[i % sections.length];
+				String title = "Student " + i;
+				sessions.add(pool.submit(() -> {
+					WolfScheduler ws = new WolfScheduler(catalog);
+					ws.setScheduleTitle(title);
+					assertTrue(ws.addCourseToSchedule("CSC 116", section));
+					return ws;
+				}));
+			}
+			for (int i = 0; i < sessions.size(); i++) {
+				WolfScheduler ws = sessions.get(i).get();
+				assertSame(catalog, ws.getCatalog());
+				assertEquals("Student " + i, ws.getScheduleTitle());
+				String[][] schedule = ws.getScheduledActivities();
+				assertEquals(1, schedule.length);
+				assertEquals(sections[i % sections.length], schedule[0][1]);
+				assertEquals(13, ws.getCourseCatalog().length);
+			}
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(0, first.getScheduledActivities().length);
+	}
+
+	/**
+	 * Stress tests a schedule changed and read from several threads at once.  Every
+	 * schedule a reader sees must be free of duplicates and conflicts, and so must the
+	 * schedule left at the end.
+	 * @throws Exception if a thread fails
+	 */
+	@Test
+	public void testConcurrentScheduling() throws Exception {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		CourseCatalog catalog = ws.getCatalog();
+		// events are looked up by title when checking the schedule
+		String[] days = {"MW", "TH", "F", "MWF", "SU"};
+		Event[] events = new Event[20];
+		for (int i = 0; i < events.length; i++) {
+			int start = 800 + i / 2 * 100 + i % 2 * 30;
+			events[i] = new Event("Event " + i, days[i % days.length], start, start + 100, "");
+		}
+
+		int writers = 3;
+		int operations = 3000;
+		AtomicBoolean done = new AtomicBoolean();
+		ExecutorService pool = Executors.newFixedThreadPool(writers + 1);
+		try {
+			ArrayList<Future<?>> tasks = new ArrayList<Future<?>>();
+			for (int w = 0; w < writers; w++) {
+				long seed = w;
+				tasks.add(pool.submit(() -> {
+					Random random = new Random(seed);
+					for (int op = 0; op < operations; op++) {
+						int choice = random.nextInt(100);
+						try {
+							if (choice < 45) {
+								Course c = catalog.get(random.nextInt(catalog.size()));
+								ws.addCourseToSchedule(c.getName(), c.getSection());
+							} else if (choice < 80) {
+								Event e = events[random.nextInt(events.length)];
+								ws.addEventToSchedule(e.getTitle(), e.getMeetingDays(), e.getStartTime(), e.getEndTime(), e.getEventDetails());
+							} else if (choice < 99) {
+								ws.removeActivityFromSchedule(random.nextInt(4));
+							} else {
+								ws.resetSchedule();
+							}
+						} catch (IllegalArgumentException e) {
+							// a duplicate or conflict, which must leave the schedule unchanged
+						}
+					}
+				}));
+			}
+			Future<Integer> reader = pool.submit(() -> {
+				int reads = 0;
+				while (!done.get()) {
+					assertScheduleValid(ws.getScheduledActivities(), catalog, events);
+					reads++;
+				}
+				return reads;
+			});
+			for (Future<?> task : tasks) {
+				task.get();
+			}
+			done.set(true);
+			assertTrue(reader.get() > 0);
+		} finally {
+			pool.shutdown();
+		}
+		assertScheduleValid(ws.getScheduledActivities(), catalog, events);
+		assertEquals(ws.getScheduledActivities().length, ws.getFullScheduledActivities().length);
+	}
+
+	/**
+	 * Tests that of several conflicting events added at the same moment from different
+	 * threads, exactly one is added.
+	 * @throws Exception if a thread fails
+	 */
+	@Test
+	public void testConcurrentConflictingAdds() throws Exception {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		int threads = 4;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			for (int round = 0; round < 200; round++) {
+				CountDownLatch start = new CountDownLatch(1);
+				ArrayList<Future<Boolean>> adds = new ArrayList<Future<Boolean>>();
+				for (int t = 0; t < threads; t++) {
+					String eventTitle = "Event " + t;
+					int startTime = 1200 + t * 10;
+					adds.add(pool.submit(() -> {
+						start.await();
+						try {
+							ws.addEventToSchedule(eventTitle, "MW", startTime, startTime + 100, "");
+							return true;
+						} catch (IllegalArgumentException e) {
+							assertEquals("The event cannot be added due to a conflict.", e.getMessage());
+							return false;
+						}
+					}));
+				}
+				start.countDown();
+				int added = 0;
+				for (Future<Boolean> add : adds) {
+					added += add.get() ? 1 : 0;
+				}
+				assertEquals(1, added);
+				assertEquals(1, ws.getScheduledActivities().length);
+				ws.resetSchedule();
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that sessions sharing a catalog take and release seats in its sections,
+	 * and never take more seats than a section has.
+	 * @throws Exception if a thread fails
+	 */
+	@Test
+	public void testSectionCapacity() throws Exception {
+		WolfScheduler first = new WolfScheduler(validTestFile);
+		CourseCatalog catalog = first.getCatalog();
+		SectionSeats seats = catalog.getSeats(catalog.getCourse(NAME, SECTION));
+		seats.setCapacity(5);
+
+		int sessions = 20;
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		ArrayList<WolfScheduler> enrolled = new ArrayList<WolfScheduler>();
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			ArrayList<Future<WolfScheduler>> adds = new ArrayList<Future<WolfScheduler>>();
+			for (int i = 0; i < sessions; i++) {
+				adds.add(pool.submit(() -> {
+					WolfScheduler ws = new WolfScheduler(catalog);
+					start.await();
+					try {
+						ws.addCourseToSchedule(NAME, SECTION);
+						return ws;
+					} catch (IllegalArgumentException e) {
+						assertEquals("The course cannot be added because it is full.", e.getMessage());
+						assertEquals(0, ws.getScheduledActivities().length);
+						return null;
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<WolfScheduler> add : adds) {
+				if (add.get() != null) {
+					enrolled.add(add.get());
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(5, enrolled.size());
+		assertEquals(5, seats.getEnrolled());
+
+		// a full section is checked after duplicates and conflicts
+		Exception e = assertThrows(IllegalArgumentException.class, () -> enrolled.get(0).addCourseToSchedule(NAME, SECTION));
+		assertEquals("You are already enrolled in " + NAME, e.getMessage());
+		assertEquals(5, seats.getEnrolled());
+
+		assertTrue(enrolled.get(0).removeActivityFromSchedule(0));
+		assertEquals(4, seats.getEnrolled());
+		enrolled.get(1).addEventToSchedule(EVENT_TITLE, EVENT_MEETING_DAYS, EVENT_START_TIME, EVENT_END_TIME, EVENT_DETAILS);
+		enrolled.get(1).resetSchedule();
+		assertEquals(3, seats.getEnrolled());
+		assertTrue(first.addCourseToSchedule(NAME, SECTION));
+		assertTrue(new WolfScheduler(catalog).addCourseToSchedule(NAME, SECTION));
+		assertThrows(IllegalArgumentException.class, () -> new WolfScheduler(catalog).addCourseToSchedule(NAME, SECTION));
+	}
+
+	/**
+	 * Tests joining and leaving the waitlist of a full section.
+	 */
+	@Test
+	public void testWaitlist() {
+		WolfScheduler holder = new WolfScheduler(validTestFile);
+		CourseCatalog catalog = holder.getCatalog();
+		catalog.getSeats(catalog.getCourse(NAME, SECTION)).setCapacity(1);
+		assertTrue(holder.addCourseToSchedule(NAME, SECTION));
+
+		WolfScheduler ws = new WolfScheduler(catalog);
+		Exception e = assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule(NAME, SECTION));
+		assertEquals("The course cannot be added because it is full.", e.getMessage());
+		assertFalse(ws.joinWaitlist("CSC 999", "001"));
+		assertTrue(ws.joinWaitlist(NAME, SECTION));
+		assertTrue(ws.isOnWaitlist(NAME, SECTION));
+		e = assertThrows(IllegalArgumentException.class, () -> ws.joinWaitlist(NAME, SECTION));
+		assertEquals("You are already on the waitlist for " + NAME, e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> holder.joinWaitlist(NAME, SECTION));
+		assertEquals("You are already enrolled in " + NAME, e.getMessage());
+
+		// a seat freed while others wait goes to the waitlist, not to a direct add
+		WolfScheduler late = new WolfScheduler(catalog);
+		assertTrue(late.joinWaitlist(NAME, SECTION));
+		assertTrue(late.leaveWaitlist(NAME, SECTION));
+		assertFalse(late.leaveWaitlist(NAME, SECTION));
+		holder.resetSchedule();
+		assertFalse(ws.isOnWaitlist(NAME, SECTION));
+		assertEquals(NAME, ws.getScheduledActivities()[0][0]);
+		assertEquals(0, late.getScheduledActivities().length);
+
+		// a session given a seat when joining skips the wait
+		catalog.getSeats(catalog.getCourse(NAME, SECTION)).setCapacity(2);
+		assertTrue(late.joinWaitlist(NAME, SECTION));
+		assertFalse(late.isOnWaitlist(NAME, SECTION));
+		assertEquals(1, late.getScheduledActivities().length);
+	}
+
+	/**
+	 * Tests that the display arrays follow adds, removes, and resets, and that
+	 * changing the arrays returned does not change the schedule.
+	 */
+	@Test
+	public void testScheduledDisplayRows() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertTrue(ws.addCourseToSchedule("CSC 116", "001"));
+		ws.addEventToSchedule(EVENT_TITLE, "S", EVENT_START_TIME, EVENT_END_TIME, EVENT_DETAILS);
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		String[][] rows = ws.getScheduledActivities();
+		String[][] fullRows = ws.getFullScheduledActivities();
+		assertEquals(3, rows.length);
+		assertEquals(EVENT_TITLE, rows[1][2]);
+		assertEquals("S 8:00AM-9:00AM", fullRows[1][5]);
+		assertEquals(EVENT_DETAILS, fullRows[1][6]);
+
+		rows[0][0] = "changed";
+		fullRows[0] = null;
+		assertEquals("CSC 116", ws.getScheduledActivities()[0][0]);
+		assertEquals("CSC 116", ws.getFullScheduledActivities()[0][0]);
+
+		assertTrue(ws.removeActivityFromSchedule(1));
+		rows = ws.getScheduledActivities();
+		fullRows = ws.getFullScheduledActivities();
+		assertEquals(2, rows.length);
+		assertEquals(NAME, rows[1][0]);
+		assertEquals("TH 1:30PM-2:45PM", rows[1][3]);
+		assertEquals("sesmith5", fullRows[1][4]);
+		assertFalse(ws.removeActivityFromSchedule(2));
+		assertEquals(2, ws.getScheduledActivities().length);
+
+		ws.resetSchedule();
+		assertEquals(0, ws.getScheduledActivities().length);
+		assertEquals(0, ws.getFullScheduledActivities().length);
+	}
+
+	/**
+	 * Tests that listeners are told of each change to the schedule, in order.
+	 */
+	@Test
+	public void testScheduleListener() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ArrayList<String> events = new ArrayList<String>();
+		ScheduleListener listener = new ScheduleListener() {
+			@Override
+			public void activityAdded(int index, Activity activity) {
+				events.add("added " + index + " " + activity.getTitle());
+			}
+
+			@Override
+			public void activityRemoved(int index, Activity activity) {
+				events.add("removed " + index + " " + activity.getTitle());
+			}
+
+			@Override
+			public void scheduleReset(int removedCount) {
+				events.add("reset " + removedCount);
+			}
+
+			@Override
+			public void titleChanged(String title) {
+				events.add("title " + title);
+			}
+		};
+		assertThrows(IllegalArgumentException.class, () -> ws.addScheduleListener(null));
+		assertEquals(0, ws.addScheduleListener(listener).size());
+		// a listener that only wants some events
+		ArrayList<Integer> resets = new ArrayList<Integer>();
+		ws.addScheduleListener(new ScheduleListener() {
+			@Override
+			public void scheduleReset(int removedCount) {
+				resets.add(removedCount);
+			}
+		});
+
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		ws.addEventToSchedule(EVENT_TITLE, EVENT_MEETING_DAYS, EVENT_START_TIME, EVENT_END_TIME, EVENT_DETAILS);
+		// failed changes send nothing
+		assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule(NAME, "002"));
+		assertFalse(ws.removeActivityFromSchedule(5));
+		assertThrows(IllegalArgumentException.class, () -> ws.setScheduleTitle(null));
+		assertTrue(ws.removeActivityFromSchedule(0));
+		ws.setScheduleTitle("Fall");
+		ws.resetSchedule();
+		assertEquals("[added 0 " + TITLE + ", added 1 " + EVENT_TITLE + ", removed 0 " + TITLE
+				+ ", title Fall, reset 1]", events.toString());
+		assertEquals("[1]", resets.toString());
+
+		assertTrue(ws.removeScheduleListener(listener));
+		assertFalse(ws.removeScheduleListener(listener));
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		assertEquals(5, events.size());
+
+		// a session given a seat from a waitlist is told too
+		WolfScheduler waiting = new WolfScheduler(ws.getCatalog());
+		ws.getCatalog().getSeats(ws.getCatalog().getCourse(NAME, SECTION)).setCapacity(1);
+		waiting.addScheduleListener(listener);
+		assertTrue(waiting.joinWaitlist(NAME, SECTION));
+		ws.resetSchedule();
+		assertEquals("added 0 " + TITLE, events.get(5));
+	}
+
+	/**
+	 * Tests that a listener added while another thread changes the schedule is told
+	 * of exactly the changes after the schedule it was given.
+	 * @throws Exception if the thread fails
+	 */
+	@Test
+	public void testScheduleListenerSnapshot() throws Exception {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		int adds = 1000;
+		CountDownLatch started = new CountDownLatch(1);
+		Thread adder = new Thread(() -> {
+			for (int i = 0; i < adds; i++) {
+				// one minute events at different minutes never conflict
+				ws.addEventToSchedule("Event " + i, "M", i / 60 * 100 + i % 60, i / 60 * 100 + i % 60, "");
+				if (i == adds / 10) {
+					started.countDown();
+				}
+			}
+		});
+		adder.start();
+		started.await();
+		ArrayList<Integer> indexes = new ArrayList<Integer>();
+		ArrayList<Activity> schedule = ws.addScheduleListener(new ScheduleListener() {
+			@Override
+			public void activityAdded(int index, Activity activity) {
+				indexes.add(index);
+			}
+		});
+		adder.join();
+
+		assertTrue(schedule.size() > adds / 10);
+		assertEquals(adds, schedule.size() + indexes.size());
+		for (int i = 0; i < schedule.size(); i++) {
+			assertEquals("Event " + i, schedule.get(i).getTitle());
+		}
+		for (int i = 0; i < indexes.size(); i++) {
+			assertEquals(schedule.size() + i, (int) indexes.get(i));
+		}
+	}
+
+	/**
+	 * Checks that a schedule read from a WolfScheduler has no duplicates or conflicts.
+	 * @param rows the short display arrays of the schedule
+	 * @param catalog catalog the courses were added from
+	 * @param events events that may have been added, named "Event " and their index
+	 */
+	private static void assertScheduleValid(String[][] rows, CourseCatalog catalog, Event[] events) {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		for (String[] row : rows) {
+			if (row[0].isEmpty()) {
+				activities.add(events[Integer.parseInt(row[2].substring("Event ".length()))]);
+			} else {
+				activities.add(catalog.getCourse(row[0], row[1]));
+			}
+		}
+		for (int i = 0; i < activities.size(); i++) {
+			for (int j = i + 1; j < activities.size(); j++) {
+				assertFalse(activities.get(i).isDuplicate(activities.get(j)));
+				assertFalse(activities.get(i).conflictsWith(activities.get(j)));
+			}
+		}
+	}
+
 }